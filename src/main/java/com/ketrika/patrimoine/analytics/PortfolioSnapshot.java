@@ -0,0 +1,484 @@
+package com.ketrika.patrimoine.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.TagDictionary;
+import com.ketrika.patrimoine.models.assets.TagSet;
+import com.ketrika.patrimoine.models.generals.Money;
+import com.ketrika.patrimoine.models.generals.Person;
+
+/**
+ * Columnar copy of the assets of a book of persons, one row per asset.
+ * <p>
+ * Each attribute is a primitive array: owner index, asset type and currency ordinals, value in
+ * minor units of its currency (rounded half-even) and a bitset of tag ordinals. Like types and
+ * currencies, tags are numbered densely in the order the snapshot meets them, so a row spends one
+ * bit per tag of the snapshot rather than per tag ever interned in the {@link TagDictionary}.
+ * Filters scan one column into a {@link BitSet} of rows, to be combined with {@link BitSet#and}
+ * and {@link BitSet#andNot}; aggregations then read only the selected rows of the value column.
+ * The snapshot keeps no reference to the persons or assets and does not change once built.
+ */
+public final class PortfolioSnapshot {
+
+  private static final Logger LOGGER = LogManager.getLogger(PortfolioSnapshot.class);
+
+  private static final Comparator<Currency> BY_CODE =
+      Comparator.comparing(Currency::getCurrencyCode);
+
+  private final String[] personIds;
+  private final List<Class<? extends IAsset>> types;
+  private final Currency[] currencies;
+  private final int[] scales;
+  private final int[] owners;
+  private final short[] typeColumn;
+  private final short[] currencyColumn;
+  private final long[] values;
+  private final List<String> tagNames;
+  private final Map<String, Integer> tagOrdinals;
+  // Tag ordinal bits of row r in words [r * stride, (r + 1) * stride)
+  private final long[] tags;
+  private final int stride;
+  private final int failed;
+
+  private PortfolioSnapshot(Builder builder) {
+    int size = builder.size;
+    this.personIds = builder.personIds.toArray(new String[0]);
+    this.types = List.copyOf(builder.types);
+    this.currencies = builder.currencies.toArray(new Currency[0]);
+    this.scales = Arrays.stream(currencies).mapToInt(Money::scale).toArray();
+    this.owners = Arrays.copyOf(builder.owners, size);
+    this.typeColumn = Arrays.copyOf(builder.typeColumn, size);
+    this.currencyColumn = Arrays.copyOf(builder.currencyColumn, size);
+    this.values = Arrays.copyOf(builder.values, size);
+    this.tagNames = List.copyOf(builder.tagNames);
+    this.tagOrdinals = Map.copyOf(builder.tagOrdinals);
+    this.tags = Arrays.copyOf(builder.tags, size * builder.stride);
+    this.stride = builder.stride;
+    this.failed = builder.failed;
+  }
+
+  /**
+   * Takes a snapshot of the assets of persons.
+   *
+   * @param persons the persons, e.g. the result of an import
+   * @return the snapshot
+   */
+  public static PortfolioSnapshot of(List<Person> persons) {
+    var builder = new Builder();
+    persons.forEach(builder::add);
+    return builder.build();
+  }
+
+  // -------------------------
+  // ROWS
+  // -------------------------
+
+  /**
+   * @return number of rows, i.e. of assets
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * @return number of persons, owner indexes ranging from 0 to this number excluded
+   */
+  public int persons() {
+    return personIds.length;
+  }
+
+  /**
+   * @return number of assets left out because their valuation failed
+   */
+  public int failed() {
+    return failed;
+  }
+
+  public String personId(int owner) {
+    return personIds[owner];
+  }
+
+  /**
+   * @param row a row
+   * @return index of the person owning the asset, in snapshot order
+   */
+  public int owner(int row) {
+    return owners[row];
+  }
+
+  public Class<? extends IAsset> type(int row) {
+    return types.get(typeColumn[row]);
+  }
+
+  public Currency currency(int row) {
+    return currencies[currencyColumn[row]];
+  }
+
+  /**
+   * @param row a row
+   * @return value of the asset in minor units of its {@link #currency(int)}
+   */
+  public long minorUnits(int row) {
+    return values[row];
+  }
+
+  public BigDecimal value(int row) {
+    return BigDecimal.valueOf(values[row], scales[currencyColumn[row]]);
+  }
+
+  public boolean hasTag(int row, String tag) {
+    Integer ordinal = tagOrdinals.get(tag);
+    return ordinal != null && (tags[row * stride + (ordinal >>> 6)] & (1L << ordinal)) != 0;
+  }
+
+  /**
+   * @return the tags carried by at least one row, in ordinal order
+   */
+  public List<String> tags() {
+    return tagNames;
+  }
+
+  // -------------------------
+  // FILTERS
+  // -------------------------
+
+  /**
+   * @return every row
+   */
+  public BitSet all() {
+    BitSet rows = new BitSet(size());
+    rows.set(0, size());
+    return rows;
+  }
+
+  /**
+   * @param type an asset class, e.g. {@code BankAccountAsset.class}
+   * @return the rows of the assets of exactly that class
+   */
+  public BitSet ofType(Class<? extends IAsset> type) {
+    return matching(typeColumn, types.indexOf(type));
+  }
+
+  public BitSet inCurrency(Currency currency) {
+    return matching(currencyColumn, Arrays.asList(currencies).indexOf(currency));
+  }
+
+  /**
+   * @param tag a tag
+   * @return the rows of the assets carrying the tag
+   */
+  public BitSet tagged(String tag) {
+    Integer ordinal = tagOrdinals.get(tag);
+    if (ordinal == null) {
+      return new BitSet();
+    }
+    int word = ordinal >>> 6;
+    long mask = 1L << ordinal;
+    long[] words = new long[words()];
+    for (int w = 0; w < words.length; w++) {
+      long bits = 0;
+      for (int row = w << 6, end = end(w); row < end; row++) {
+        bits |= ((tags[row * stride + word] & mask) != 0 ? 1L : 0L) << row;
+      }
+      words[w] = bits;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * @param minimum the lower bound, whose currency selects the rows compared
+   * @return the rows in the currency of {@code minimum} worth at least that amount
+   */
+  public BitSet atLeast(Money minimum) {
+    int currency = Arrays.asList(currencies).indexOf(minimum.currency());
+    long bound = minimum.minorUnits();
+    long[] words = new long[words()];
+    for (int w = 0; w < words.length; w++) {
+      long bits = 0;
+      for (int row = w << 6, end = end(w); row < end; row++) {
+        bits |= (currencyColumn[row] == currency && values[row] >= bound ? 1L : 0L) << row;
+      }
+      words[w] = bits;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  private BitSet matching(short[] column, int ordinal) {
+    if (ordinal < 0) {
+      return new BitSet();
+    }
+    // Rows are set a word at a time, without a branch per row
+    long[] words = new long[words()];
+    for (int w = 0; w < words.length; w++) {
+      long bits = 0;
+      for (int row = w << 6, end = end(w); row < end; row++) {
+        bits |= (column[row] == ordinal ? 1L : 0L) << row;
+      }
+      words[w] = bits;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  private int words() {
+    return (values.length + Long.SIZE - 1) >>> 6;
+  }
+
+  /**
+   * @return the row following the last row of word {@code w}
+   */
+  private int end(int w) {
+    return Math.min((w + 1) << 6, values.length);
+  }
+
+  // -------------------------
+  // AGGREGATIONS
+  // -------------------------
+
+  /**
+   * @param rows the rows to sum, e.g. {@link #all()} or a filter result
+   * @return total value per currency, sorted by currency code, without the currencies having no
+   *         row in {@code rows}
+   * @throws ArithmeticException if a total does not fit in minor units
+   */
+  public Map<Currency, BigDecimal> totals(BitSet rows) {
+    long[] sums = new long[currencies.length];
+    boolean[] seen = new boolean[currencies.length];
+    long[] words = selected(rows);
+    for (int w = 0; w < words.length; w++) {
+      if (words[w] == -1L) {
+        // Every row of the word is selected: plain scan
+        for (int row = w << 6, end = row + Long.SIZE; row < end; row++) {
+          int c = currencyColumn[row];
+          sums[c] = Math.addExact(sums[c], values[row]);
+          seen[c] = true;
+        }
+        continue;
+      }
+      for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+        int row = (w << 6) + Long.numberOfTrailingZeros(bits);
+        int c = currencyColumn[row];
+        sums[c] = Math.addExact(sums[c], values[row]);
+        seen[c] = true;
+      }
+    }
+    Map<Currency, BigDecimal> totals = new TreeMap<>(BY_CODE);
+    for (int c = 0; c < currencies.length; c++) {
+      if (seen[c]) {
+        totals.put(currencies[c], BigDecimal.valueOf(sums[c], scales[c]));
+      }
+    }
+    return totals;
+  }
+
+  /**
+   * @param currency the currency of the rows to sum
+   * @param rows the rows to sum
+   * @return total value per owner index, in minor units of {@code currency}
+   * @throws ArithmeticException if a total does not fit in minor units
+   */
+  public long[] totalsByPerson(Currency currency, BitSet rows) {
+    long[] sums = new long[personIds.length];
+    int c = Arrays.asList(currencies).indexOf(currency);
+    long[] words = selected(rows);
+    for (int w = 0; w < words.length; w++) {
+      for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+        int row = (w << 6) + Long.numberOfTrailingZeros(bits);
+        if (currencyColumn[row] == c) {
+          sums[owners[row]] = Math.addExact(sums[owners[row]], values[row]);
+        }
+      }
+    }
+    return sums;
+  }
+
+  /**
+   * Groups rows by tag; an asset with several tags counts in each of them.
+   *
+   * @param currency the currency of the rows to sum
+   * @param rows the rows to group
+   * @return total value per tag, sorted by tag, without the tags having no row in {@code rows}
+   * @throws ArithmeticException if a total does not fit in minor units
+   */
+  public Map<String, BigDecimal> totalsByTag(Currency currency, BitSet rows) {
+    int c = Arrays.asList(currencies).indexOf(currency);
+    long[] sums = new long[stride * Long.SIZE];
+    long[] seen = new long[stride];
+    long[] words = selected(rows);
+    for (int w = 0; w < words.length; w++) {
+      for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+        int row = (w << 6) + Long.numberOfTrailingZeros(bits);
+        if (currencyColumn[row] != c) {
+          continue;
+        }
+        for (int t = 0; t < stride; t++) {
+          long tagBits = tags[row * stride + t];
+          seen[t] |= tagBits;
+          for (; tagBits != 0; tagBits &= tagBits - 1) {
+            int id = (t << 6) + Long.numberOfTrailingZeros(tagBits);
+            sums[id] = Math.addExact(sums[id], values[row]);
+          }
+        }
+      }
+    }
+    Map<String, BigDecimal> totals = new TreeMap<>();
+    for (int t = 0; t < tagNames.size(); t++) {
+      if ((seen[t >>> 6] & (1L << t)) != 0) {
+        totals.put(tagNames.get(t), BigDecimal.valueOf(sums[t], scales[c]));
+      }
+    }
+    return totals;
+  }
+
+  /**
+   * @return the words of a selection, without the rows past the end of the snapshot
+   */
+  private long[] selected(BitSet rows) {
+    long[] words = rows.toLongArray();
+    if (rows.length() > values.length) {
+      words = Arrays.copyOf(words, words());
+      if (values.length % Long.SIZE != 0) {
+        words[words.length - 1] &= -1L >>> (Long.SIZE - values.length % Long.SIZE);
+      }
+    }
+    return words;
+  }
+
+  // -------------------------
+  // BUILDER
+  // -------------------------
+
+  /**
+   * Appends persons one at a time, e.g. as an import hands them over. Not thread-safe.
+   */
+  public static class Builder {
+    private final List<String> personIds = new ArrayList<>();
+    private final List<Class<? extends IAsset>> types = new ArrayList<>();
+    private final Map<Class<? extends IAsset>, Integer> typeOrdinals = new HashMap<>();
+    private final List<Currency> currencies = new ArrayList<>();
+    private final Map<Currency, Integer> currencyOrdinals = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+    private final Map<String, Integer> tagOrdinals = new HashMap<>();
+    // Tag ordinal + 1 by TagDictionary id, 0 until met: shared tag sets skip the name lookup
+    private int[] tagOrdinalsById = new int[64];
+    private int[] owners = new int[1024];
+    private short[] typeColumn = new short[1024];
+    private short[] currencyColumn = new short[1024];
+    private long[] values = new long[1024];
+    private long[] tags = new long[1024];
+    private int stride = 1;
+    private int size;
+    private int failed;
+
+    /**
+     * Appends the assets of a person. An asset whose valuation fails is logged and left out.
+     */
+    public Builder add(Person person) {
+      Objects.requireNonNull(person, "person cannot be null");
+      int owner = personIds.size();
+      personIds.add(person.getId());
+      for (IAsset asset : person.getAssets()) {
+        long minorUnits;
+        Currency currency;
+        try {
+          currency = asset.currency();
+          int scale = Money.scale(currency);
+          BigDecimal value = asset.value();
+          minorUnits = Money.toMinorUnits(
+              value.scale() > scale ? value.setScale(scale, RoundingMode.HALF_EVEN) : value, scale);
+        } catch (RuntimeException e) {
+          LOGGER.warn("Leaving asset {} of person {} out of the snapshot: {}", asset.name(),
+              person.getId(), e.getMessage());
+          failed++;
+          continue;
+        }
+        append(owner, asset, currency, minorUnits);
+      }
+      return this;
+    }
+
+    public PortfolioSnapshot build() {
+      return new PortfolioSnapshot(this);
+    }
+
+    private void append(int owner, IAsset asset, Currency currency, long minorUnits) {
+      short type = ordinal(typeOrdinals, types, asset.getClass());
+      short currencyOrdinal = ordinal(currencyOrdinals, currencies, currency);
+      if (size == values.length) {
+        int capacity = size * 2;
+        owners = Arrays.copyOf(owners, capacity);
+        typeColumn = Arrays.copyOf(typeColumn, capacity);
+        currencyColumn = Arrays.copyOf(currencyColumn, capacity);
+        values = Arrays.copyOf(values, capacity);
+        tags = Arrays.copyOf(tags, capacity * stride);
+      }
+      int row = size++;
+      owners[row] = owner;
+      typeColumn[row] = type;
+      currencyColumn[row] = currencyOrdinal;
+      values[row] = minorUnits;
+      List<String> assetTags = asset.tags();
+      for (int i = 0; i < assetTags.size(); i++) {
+        int tag = assetTags instanceof TagSet set
+            ? tagOrdinal(set, i)
+            : ordinal(tagOrdinals, tagNames, assetTags.get(i));
+        if (tag >= stride * Long.SIZE) {
+          widen((tag >>> 6) + 1);
+        }
+        tags[row * stride + (tag >>> 6)] |= 1L << tag;
+      }
+    }
+
+    private int tagOrdinal(TagSet set, int index) {
+      int id = set.id(index);
+      if (id >= tagOrdinalsById.length) {
+        tagOrdinalsById = Arrays.copyOf(tagOrdinalsById,
+            Math.max(id + 1, tagOrdinalsById.length * 2));
+      }
+      int ordinal = tagOrdinalsById[id] - 1;
+      if (ordinal < 0) {
+        ordinal = ordinal(tagOrdinals, tagNames, set.get(index));
+        tagOrdinalsById[id] = ordinal + 1;
+      }
+      return ordinal;
+    }
+
+    /**
+     * Gives every row {@code words} words of tag bits, once a tag ordinal does not fit in the
+     * current ones.
+     */
+    private void widen(int words) {
+      long[] next = new long[values.length * words];
+      for (int row = 0; row < size; row++) {
+        System.arraycopy(tags, row * stride, next, row * words, stride);
+      }
+      tags = next;
+      stride = words;
+    }
+
+    private static <T> short ordinal(Map<T, Integer> ordinals, List<T> values, T value) {
+      Integer ordinal = ordinals.get(value);
+      if (ordinal == null) {
+        if (values.size() > Short.MAX_VALUE) {
+          throw new IllegalStateException("Too many distinct values in a snapshot column");
+        }
+        ordinal = values.size();
+        ordinals.put(value, ordinal);
+        values.add(value);
+      }
+      return ordinal.shortValue();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.ketrika.patrimoine.analytics;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.models.generals.BalanceSheet;
+import com.ketrika.patrimoine.models.generals.BalanceSheetCalculation;
+import com.ketrika.patrimoine.models.generals.Money;
+import com.ketrika.patrimoine.models.generals.Person;
+
+/**
+ * Revalues a whole book of persons at once.
+ * <p>
+ * Persons are split across a {@link ForkJoinPool}; each task writes the totals of its persons into
+ * its own rows of a preallocated {@link RevaluationResults} table, so workers share nothing and
+ * take no lock. A person whose valuation fails (e.g. an unquoted market symbol) is logged and left
+ * without totals instead of aborting the run.
+ */
+public final class RevaluationEngine {
+
+  private static final Logger LOGGER = LogManager.getLogger(RevaluationEngine.class);
+  private static final BalanceSheetCalculation BALANCE_SHEET = new BalanceSheetCalculation();
+
+  private final ForkJoinPool pool;
+  private final int scale;
+
+  /**
+   * Builds an engine running on the common pool, storing totals at the scale of the default asset
+   * currency.
+   */
+  public RevaluationEngine() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param pool the pool the revaluation runs on
+   */
+  public RevaluationEngine(ForkJoinPool pool) {
+    this(pool, Currency.getInstance("MGA"));
+  }
+
+  /**
+   * @param pool the pool the revaluation runs on
+   * @param currency the currency whose scale the totals are stored at
+   */
+  public RevaluationEngine(ForkJoinPool pool, Currency currency) {
+    this.pool = Objects.requireNonNull(pool, "pool cannot be null");
+    this.scale = Money.scale(Objects.requireNonNull(currency, "currency cannot be null"));
+  }
+
+  /**
+   * Computes the asset, liability and net-worth totals of every person.
+   *
+   * @param persons the persons to revalue
+   * @return one row per person, in list order
+   */
+  public RevaluationResults revalue(List<Person> persons) {
+    Objects.requireNonNull(persons, "persons cannot be null");
+    long start = System.nanoTime();
+    Person[] book = persons.toArray(new Person[0]);
+    var results = new RevaluationResults(book, scale);
+    var failed = new LongAdder();
+
+    pool.submit(() -> IntStream.range(0, book.length).parallel()
+        .forEach(i -> revalue(book[i], i, results, failed)))
+        .join();
+
+    results.complete(failed.intValue(), System.nanoTime() - start);
+    return results;
+  }
+
+  private static void revalue(Person person, int row, RevaluationResults results,
+      LongAdder failed) {
+    try {
+      BalanceSheet totals = BALANCE_SHEET.evaluate(person);
+      results.set(row, totals.assets(), totals.liabilities());
+    } catch (RuntimeException e) {
+      LOGGER.warn("Cannot revalue person {}: {}", person.getId(), e.getMessage());
+      results.set(row, null, null);
+      failed.increment();
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.ketrika.patrimoine.analytics;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import com.ketrika.patrimoine.models.generals.Money;
+import com.ketrika.patrimoine.models.generals.Person;
+
+/**
+ * Totals of a revaluation run, one row per person, stored column by column.
+ * <p>
+ * Row {@code i} holds the totals of the {@code i}-th person revalued, see {@link #person(int)}.
+ * Totals are kept as {@code long} counts of units of {@code 10^-scale}; a total that has more
+ * fraction digits or does not fit is kept aside exactly as a {@link BigDecimal}. Rows are filled
+ * concurrently by the {@link RevaluationEngine}, each by a single worker, and are published to the
+ * caller when the run completes. The totals of a person whose revaluation failed are {@code null}.
+ */
+public final class RevaluationResults {
+
+  // Cell of a failed row, or of a total kept aside
+  private static final long SPILLED = Long.MIN_VALUE;
+
+  private final Person[] persons;
+  private final int scale;
+  private final long[] assets;
+  private final long[] liabilities;
+  private final Map<Integer, BigDecimal> spilledAssets = new ConcurrentHashMap<>();
+  private final Map<Integer, BigDecimal> spilledLiabilities = new ConcurrentHashMap<>();
+  private int failed;
+  private long elapsedNanos;
+
+  RevaluationResults(Person[] persons, int scale) {
+    this.persons = persons;
+    this.scale = scale;
+    this.assets = new long[persons.length];
+    this.liabilities = new long[persons.length];
+  }
+
+  void set(int row, BigDecimal assetTotal, BigDecimal liabilityTotal) {
+    assets[row] = store(row, assetTotal, spilledAssets);
+    liabilities[row] = store(row, liabilityTotal, spilledLiabilities);
+  }
+
+  void complete(int failedRows, long elapsed) {
+    this.failed = failedRows;
+    this.elapsedNanos = elapsed;
+  }
+
+  /**
+   * @return number of rows
+   */
+  public int size() {
+    return persons.length;
+  }
+
+  /**
+   * @param row the row
+   * @return the person the row belongs to
+   */
+  public Person person(int row) {
+    return persons[row];
+  }
+
+  /**
+   * @return number of fraction digits of the stored totals
+   */
+  public int scale() {
+    return scale;
+  }
+
+  public BigDecimal assets(int row) {
+    return load(row, assets, spilledAssets);
+  }
+
+  public BigDecimal liabilities(int row) {
+    return load(row, liabilities, spilledLiabilities);
+  }
+
+  /**
+   * @param row the row
+   * @return assets minus liabilities, or {@code null} if the revaluation of the person failed
+   */
+  public BigDecimal netWorth(int row) {
+    long assetUnits = assets[row];
+    long liabilityUnits = liabilities[row];
+    if (assetUnits != SPILLED && liabilityUnits != SPILLED) {
+      long net = assetUnits - liabilityUnits;
+      if (((assetUnits ^ liabilityUnits) & (assetUnits ^ net)) >= 0) {
+        // No overflow
+        return BigDecimal.valueOf(net, scale);
+      }
+    }
+    BigDecimal assetTotal = assets(row);
+    return assetTotal == null ? null : assetTotal.subtract(liabilities(row));
+  }
+
+  /**
+   * @return number of persons whose revaluation failed
+   */
+  public int failed() {
+    return failed;
+  }
+
+  /**
+   * @return wall-clock duration of the run
+   */
+  public long elapsedNanos() {
+    return elapsedNanos;
+  }
+
+  private long store(int row, BigDecimal total, Map<Integer, BigDecimal> spilled) {
+    if (total == null) {
+      return SPILLED;
+    }
+    if (Money.fitsMinorUnits(total, scale)) {
+      return Money.toMinorUnits(total, scale);
+    }
+    spilled.put(row, total);
+    return SPILLED;
+  }
+
+  private BigDecimal load(int row, long[] column, Map<Integer, BigDecimal> spilled) {
+    long units = column[row];
+    return units != SPILLED ? BigDecimal.valueOf(units, scale) : spilled.get(row);
+  }
+}
@@ -0,0 +1,447 @@
+package com.ketrika.patrimoine.analytics;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable compressed set of non-negative int identifiers, laid out like a roaring bitmap.
+ * <p>
+ * Identifiers are grouped by their high 16 bits. Each group holds its low 16 bits either as a
+ * sorted {@code char[]} (up to {@value #ARRAY_MAX} values) or as a 65536-bit {@code long[]}
+ * bitmap, whichever is smaller, so sparse and dense sets both stay compact. Set operations work
+ * group by group and skip the groups absent from either side.
+ */
+public final class RoaringIdSet {
+
+  /** Largest number of values kept in a sorted array; larger groups use a bitmap. */
+  static final int ARRAY_MAX = 4096;
+  private static final int BITMAP_WORDS = 1 << 10;
+  private static final RoaringIdSet EMPTY = new RoaringIdSet(new char[0], new Object[0]);
+
+  // Sorted high 16 bits of each group, and the group: char[] or long[]
+  private final char[] keys;
+  private final Object[] containers;
+
+  private RoaringIdSet(char[] keys, Object[] containers) {
+    this.keys = keys;
+    this.containers = containers;
+  }
+
+  public static RoaringIdSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @param ids identifiers, in any order, duplicates allowed
+   * @return the set of the identifiers
+   */
+  public static RoaringIdSet of(int... ids) {
+    int[] sorted = ids.clone();
+    Arrays.sort(sorted);
+    var builder = new Builder();
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        builder.add(sorted[i]);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * @param size number of identifiers
+   * @return the set of the identifiers from 0 to {@code size - 1}
+   */
+  public static RoaringIdSet range(int size) {
+    var builder = new Builder();
+    for (int id = 0; id < size; id++) {
+      builder.add(id);
+    }
+    return builder.build();
+  }
+
+  public boolean contains(int id) {
+    int index = Arrays.binarySearch(keys, (char) (id >>> 16));
+    if (id < 0 || index < 0) {
+      return false;
+    }
+    char low = (char) id;
+    return containers[index] instanceof char[] values
+        ? Arrays.binarySearch(values, low) >= 0
+        : (((long[]) containers[index])[low >>> 6] & (1L << low)) != 0;
+  }
+
+  /**
+   * @return number of identifiers in the set
+   */
+  public int cardinality() {
+    int cardinality = 0;
+    for (Object container : containers) {
+      cardinality += cardinality(container);
+    }
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  /**
+   * @param other another set
+   * @return the identifiers in both sets
+   */
+  public RoaringIdSet and(RoaringIdSet other) {
+    var result = new Groups(Math.min(keys.length, other.keys.length));
+    int i = 0;
+    int j = 0;
+    while (i < keys.length && j < other.keys.length) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        result.add(keys[i], and(containers[i], other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return result.build();
+  }
+
+  /**
+   * @param other another set
+   * @return the identifiers in either set
+   */
+  public RoaringIdSet or(RoaringIdSet other) {
+    var result = new Groups(keys.length + other.keys.length);
+    int i = 0;
+    int j = 0;
+    while (i < keys.length || j < other.keys.length) {
+      if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+        result.add(keys[i], containers[i]);
+        i++;
+      } else if (i == keys.length || keys[i] > other.keys[j]) {
+        result.add(other.keys[j], other.containers[j]);
+        j++;
+      } else {
+        result.add(keys[i], or(containers[i], other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return result.build();
+  }
+
+  /**
+   * @param other another set
+   * @return the identifiers of this set that are not in the other one
+   */
+  public RoaringIdSet andNot(RoaringIdSet other) {
+    var result = new Groups(keys.length);
+    int j = 0;
+    for (int i = 0; i < keys.length; i++) {
+      while (j < other.keys.length && other.keys[j] < keys[i]) {
+        j++;
+      }
+      result.add(keys[i], j < other.keys.length && other.keys[j] == keys[i]
+          ? andNot(containers[i], other.containers[j])
+          : containers[i]);
+    }
+    return result.build();
+  }
+
+  /**
+   * Visits the identifiers in increasing order.
+   *
+   * @param action receives each identifier
+   */
+  public void forEach(IntConsumer action) {
+    for (int i = 0; i < keys.length; i++) {
+      int high = keys[i] << 16;
+      if (containers[i] instanceof char[] values) {
+        for (char low : values) {
+          action.accept(high | low);
+        }
+      } else {
+        long[] words = (long[]) containers[i];
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+          long word = words[w];
+          while (word != 0) {
+            action.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+            word &= word - 1;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the identifiers in increasing order
+   */
+  public int[] toArray() {
+    int[] ids = new int[cardinality()];
+    int[] next = {0};
+    forEach(id -> ids[next[0]++] = id);
+    return ids;
+  }
+
+  /**
+   * @return approximate heap size of the groups, in bytes
+   */
+  public long sizeInBytes() {
+    long size = keys.length * 2L;
+    for (Object container : containers) {
+      size += container instanceof char[] values ? values.length * 2L : BITMAP_WORDS * 8L;
+    }
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "RoaringIdSet[" + cardinality() + " ids, " + keys.length + " groups]";
+  }
+
+  // -------------------------
+  // GROUP OPERATIONS
+  // -------------------------
+
+  private static int cardinality(Object container) {
+    if (container instanceof char[] values) {
+      return values.length;
+    }
+    int cardinality = 0;
+    for (long word : (long[]) container) {
+      cardinality += Long.bitCount(word);
+    }
+    return cardinality;
+  }
+
+  private static Object and(Object a, Object b) {
+    if (a instanceof char[] values) {
+      return filter(values, b, true);
+    }
+    if (b instanceof char[] values) {
+      return filter(values, a, true);
+    }
+    long[] left = (long[]) a;
+    long[] right = (long[]) b;
+    long[] words = new long[BITMAP_WORDS];
+    int cardinality = 0;
+    for (int w = 0; w < BITMAP_WORDS; w++) {
+      words[w] = left[w] & right[w];
+      cardinality += Long.bitCount(words[w]);
+    }
+    return compact(words, cardinality);
+  }
+
+  private static Object andNot(Object a, Object b) {
+    if (a instanceof char[] values) {
+      return filter(values, b, false);
+    }
+    long[] words = ((long[]) a).clone();
+    if (b instanceof char[] values) {
+      for (char low : values) {
+        words[low >>> 6] &= ~(1L << low);
+      }
+    } else {
+      long[] right = (long[]) b;
+      for (int w = 0; w < BITMAP_WORDS; w++) {
+        words[w] &= ~right[w];
+      }
+    }
+    return compact(words, cardinality(words));
+  }
+
+  private static Object or(Object a, Object b) {
+    if (a instanceof char[] left && b instanceof char[] right
+        && left.length + right.length <= ARRAY_MAX) {
+      char[] merged = new char[left.length + right.length];
+      int i = 0;
+      int j = 0;
+      int n = 0;
+      while (i < left.length || j < right.length) {
+        if (j == right.length || (i < left.length && left[i] < right[j])) {
+          merged[n++] = left[i++];
+        } else if (i == left.length || left[i] > right[j]) {
+          merged[n++] = right[j++];
+        } else {
+          merged[n++] = left[i++];
+          j++;
+        }
+      }
+      return Arrays.copyOf(merged, n);
+    }
+    long[] words = toBitmap(a);
+    if (b instanceof char[] values) {
+      for (char low : values) {
+        words[low >>> 6] |= 1L << low;
+      }
+    } else {
+      long[] right = (long[]) b;
+      for (int w = 0; w < BITMAP_WORDS; w++) {
+        words[w] |= right[w];
+      }
+    }
+    // Two arrays may overlap enough for their union to fit an array again
+    return compact(words, cardinality(words));
+  }
+
+  /**
+   * Keeps the values that are ({@code keep}) or are not in a group.
+   */
+  private static char[] filter(char[] values, Object group, boolean keep) {
+    char[] kept = new char[values.length];
+    int n = 0;
+    for (char low : values) {
+      boolean present = group instanceof char[] other
+          ? Arrays.binarySearch(other, low) >= 0
+          : (((long[]) group)[low >>> 6] & (1L << low)) != 0;
+      if (present == keep) {
+        kept[n++] = low;
+      }
+    }
+    return n == values.length ? kept : Arrays.copyOf(kept, n);
+  }
+
+  private static long[] toBitmap(Object container) {
+    if (container instanceof long[] words) {
+      return words.clone();
+    }
+    long[] words = new long[BITMAP_WORDS];
+    for (char low : (char[]) container) {
+      words[low >>> 6] |= 1L << low;
+    }
+    return words;
+  }
+
+  /**
+   * Turns a bitmap back into a sorted array when small enough.
+   */
+  private static Object compact(long[] words, int cardinality) {
+    if (cardinality > ARRAY_MAX) {
+      return words;
+    }
+    char[] values = new char[cardinality];
+    int n = 0;
+    for (int w = 0; w < BITMAP_WORDS; w++) {
+      long word = words[w];
+      while (word != 0) {
+        values[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Collects the non-empty groups of an operation result.
+   */
+  private static final class Groups {
+    private final char[] keys;
+    private final Object[] containers;
+    private int size;
+
+    Groups(int capacity) {
+      this.keys = new char[capacity];
+      this.containers = new Object[capacity];
+    }
+
+    void add(char key, Object container) {
+      if (container instanceof char[] values && values.length == 0) {
+        return;
+      }
+      keys[size] = key;
+      containers[size++] = container;
+    }
+
+    RoaringIdSet build() {
+      return size == 0
+          ? EMPTY
+          : new RoaringIdSet(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+    }
+  }
+
+  // -------------------------
+  // BUILDER
+  // -------------------------
+
+  /**
+   * Builds a set from identifiers added in strictly increasing order, as assigned by an index.
+   */
+  public static class Builder {
+    private char[] keys = new char[4];
+    private Object[] containers = new Object[4];
+    private int size;
+
+    // Group being filled
+    private int currentKey = -1;
+    private final char[] buffer = new char[ARRAY_MAX];
+    private int buffered;
+    private long[] bitmap;
+    private int last = -1;
+
+    /**
+     * @param id an identifier greater than every identifier added so far
+     * @throws IllegalArgumentException if the identifier is negative or not increasing
+     */
+    public Builder add(int id) {
+      if (id <= last) {
+        throw new IllegalArgumentException("ids must be added in increasing order: " + id);
+      }
+      last = id;
+      int key = id >>> 16;
+      if (key != currentKey) {
+        flush();
+        currentKey = key;
+      }
+      char low = (char) id;
+      if (bitmap != null) {
+        bitmap[low >>> 6] |= 1L << low;
+      } else if (buffered < ARRAY_MAX) {
+        buffer[buffered++] = low;
+      } else {
+        bitmap = toBitmap(buffer);
+        bitmap[low >>> 6] |= 1L << low;
+      }
+      return this;
+    }
+
+    /**
+     * @return the last identifier added, -1 if none
+     */
+    public int last() {
+      return last;
+    }
+
+    /**
+     * @return the identifiers added so far; the builder can go on adding afterwards
+     */
+    public RoaringIdSet build() {
+      boolean pending = bitmap != null || buffered > 0;
+      int n = pending ? size + 1 : size;
+      if (n == 0) {
+        return EMPTY;
+      }
+      char[] groupKeys = Arrays.copyOf(keys, n);
+      Object[] groups = Arrays.copyOf(containers, n);
+      if (pending) {
+        groupKeys[size] = (char) currentKey;
+        groups[size] = bitmap != null ? bitmap.clone() : Arrays.copyOf(buffer, buffered);
+      }
+      return new RoaringIdSet(groupKeys, groups);
+    }
+
+    private void flush() {
+      if (bitmap == null && buffered == 0) {
+        return;
+      }
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size * 2);
+        containers = Arrays.copyOf(containers, size * 2);
+      }
+      keys[size] = (char) currentKey;
+      containers[size++] = bitmap != null ? bitmap : Arrays.copyOf(buffer, buffered);
+      bitmap = null;
+      buffered = 0;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.ketrika.patrimoine.analytics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.generals.Person;
+
+/**
+ * Inverted index from asset tags to the assets carrying them.
+ * <p>
+ * Every indexed asset gets a dense identifier, in indexing order; each tag maps to the
+ * {@link RoaringIdSet} of its assets. Queries combine those sets ({@link #allOf}, {@link #anyOf},
+ * {@link #noneOf} or the set operations themselves) without visiting the assets, which are only
+ * read to total the values of a result.
+ */
+public final class TagIndex {
+
+  private final IAsset[] assets;
+  private final int[] owners;
+  private final List<Person> persons;
+  private final Map<String, RoaringIdSet> postings;
+  private final RoaringIdSet all;
+
+  private TagIndex(Builder builder) {
+    this.assets = Arrays.copyOf(builder.assets, builder.size);
+    this.owners = Arrays.copyOf(builder.owners, builder.size);
+    this.persons = List.copyOf(builder.persons);
+    Map<String, RoaringIdSet> sets = new HashMap<>();
+    builder.postings.forEach((tag, ids) -> sets.put(tag, ids.build()));
+    this.postings = Map.copyOf(sets);
+    this.all = RoaringIdSet.range(builder.size);
+  }
+
+  /**
+   * Indexes the assets of persons.
+   *
+   * @param persons the persons, e.g. the result of an import
+   * @return the index
+   */
+  public static TagIndex of(List<Person> persons) {
+    var builder = new Builder();
+    persons.forEach(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * @return the identifiers of every indexed asset
+   */
+  public RoaringIdSet all() {
+    return all;
+  }
+
+  /**
+   * @param tag a tag
+   * @return the assets carrying the tag
+   */
+  public RoaringIdSet tagged(String tag) {
+    return postings.getOrDefault(tag, RoaringIdSet.empty());
+  }
+
+  /**
+   * @param tags tags
+   * @return the assets carrying every tag (AND)
+   */
+  public RoaringIdSet allOf(String... tags) {
+    if (tags.length == 0) {
+      return all;
+    }
+    RoaringIdSet result = tagged(tags[0]);
+    for (int i = 1; i < tags.length && !result.isEmpty(); i++) {
+      result = result.and(tagged(tags[i]));
+    }
+    return result;
+  }
+
+  /**
+   * @param tags tags
+   * @return the assets carrying at least one of the tags (OR)
+   */
+  public RoaringIdSet anyOf(String... tags) {
+    RoaringIdSet result = RoaringIdSet.empty();
+    for (String tag : tags) {
+      result = result.or(tagged(tag));
+    }
+    return result;
+  }
+
+  /**
+   * @param tags tags
+   * @return the assets carrying none of the tags (NOT)
+   */
+  public RoaringIdSet noneOf(String... tags) {
+    return all.andNot(anyOf(tags));
+  }
+
+  /**
+   * @return every indexed tag
+   */
+  public Set<String> tags() {
+    return postings.keySet();
+  }
+
+  /**
+   * @return number of indexed assets
+   */
+  public int size() {
+    return assets.length;
+  }
+
+  public IAsset asset(int id) {
+    return assets[id];
+  }
+
+  /**
+   * @param id an asset identifier
+   * @return the person owning the asset
+   */
+  public Person owner(int id) {
+    return persons.get(owners[id]);
+  }
+
+  /**
+   * @param ids asset identifiers, e.g. a query result
+   * @return total value of the assets
+   */
+  public BigDecimal total(RoaringIdSet ids) {
+    BigDecimal[] total = {BigDecimal.ZERO};
+    ids.forEach(id -> total[0] = total[0].add(assets[id].value()));
+    return total[0];
+  }
+
+  /**
+   * Groups assets by tag; an asset with several tags counts in each of them.
+   *
+   * @param ids asset identifiers to group, e.g. {@link #all()} or a query result
+   * @return total value per tag, sorted by tag, without the tags having no asset in {@code ids}
+   */
+  public Map<String, BigDecimal> totalsByTag(RoaringIdSet ids) {
+    Map<String, BigDecimal> totals = new TreeMap<>();
+    postings.forEach((tag, tagged) -> {
+      RoaringIdSet selected = tagged.and(ids);
+      if (!selected.isEmpty()) {
+        totals.put(tag, total(selected));
+      }
+    });
+    return totals;
+  }
+
+  // -------------------------
+  // BUILDER
+  // -------------------------
+
+  /**
+   * Indexes persons one at a time, e.g. as an import hands them over. Not thread-safe.
+   */
+  public static class Builder {
+    private IAsset[] assets = new IAsset[1024];
+    private int[] owners = new int[1024];
+    private int size;
+    private final List<Person> persons = new ArrayList<>();
+    private final Map<String, RoaringIdSet.Builder> postings = new HashMap<>();
+
+    public Builder add(Person person) {
+      Objects.requireNonNull(person, "person cannot be null");
+      int owner = persons.size();
+      persons.add(person);
+      for (IAsset asset : person.getAssets()) {
+        if (size == assets.length) {
+          assets = Arrays.copyOf(assets, size * 2);
+          owners = Arrays.copyOf(owners, size * 2);
+        }
+        int id = size++;
+        assets[id] = asset;
+        owners[id] = owner;
+        for (String tag : asset.tags()) {
+          RoaringIdSet.Builder ids = postings.computeIfAbsent(tag, t -> new RoaringIdSet.Builder());
+          // A tag listed twice on one asset is indexed once
+          if (ids.last() != id) {
+            ids.add(id);
+          }
+        }
+      }
+      return this;
+    }
+
+    public TagIndex build() {
+      return new TagIndex(this);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.ketrika.patrimoine.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.models.generals.Person;
+
+/**
+ * Runs the per-chunk tasks of the parallel readers on virtual threads and hands their results
+ * back, either in chunk order or as soon as each chunk is done.
+ */
+final class ChunkTasks {
+
+  private static final Logger LOGGER = LogManager.getLogger(ChunkTasks.class);
+
+  private ChunkTasks() {
+    // utility class
+  }
+
+  /**
+   * Runs every task and waits for all of them. The chunks read successfully are all handed to the
+   * sink before a failed chunk is reported.
+   *
+   * @param tasks one task per chunk, each returning the persons parsed from its chunk
+   * @param keepOrder whether results are handed out in task order
+   * @param sink receives the persons of one chunk at a time
+   * @throws IOException if a chunk could not be read or parsed, its records being lost
+   * @throws InterruptedException if interrupted while waiting for the chunks
+   */
+  static void run(List<Callable<List<Person>>> tasks, boolean keepOrder,
+      Consumer<List<Person>> sink) throws IOException, InterruptedException {
+    Throwable failure = null;
+    int failed = 0;
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var completion = new ExecutorCompletionService<List<Person>>(executor);
+      List<Future<List<Person>>> futures = new ArrayList<>(tasks.size());
+      for (Callable<List<Person>> task : tasks) {
+        futures.add(completion.submit(task));
+      }
+
+      for (int i = 0; i < futures.size(); i++) {
+        Throwable cause = collect(keepOrder ? futures.get(i) : completion.take(), sink);
+        if (cause != null) {
+          failed++;
+          if (failure == null) {
+            failure = cause;
+          } else {
+            failure.addSuppressed(cause);
+          }
+        }
+      }
+    }
+    if (failure != null) {
+      throw new IOException(failed + " of " + tasks.size() + " chunk(s) could not be read: "
+          + failure.getMessage(), failure);
+    }
+  }
+
+  /**
+   * @return the failure of the chunk, or {@code null} if its persons were handed to the sink
+   */
+  private static Throwable collect(Future<List<Person>> chunk, Consumer<List<Person>> sink)
+      throws InterruptedException {
+    try {
+      sink.accept(chunk.get());
+      return null;
+    } catch (ExecutionException ex) {
+      LOGGER.error("Failed to read a chunk: {}", ex.getCause().getMessage());
+      return ex.getCause();
+    }
+  }
+}
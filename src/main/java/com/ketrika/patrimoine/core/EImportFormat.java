@@ -0,0 +1,27 @@
+package com.ketrika.patrimoine.core;
+
+import java.util.Locale;
+
+/**
+ * Enumeration of the input layouts accepted by {@link ImportCommand}.
+ */
+public enum EImportFormat {
+
+  /** A single JSON array of Person objects. */
+  ARRAY,
+
+  /** NDJSON / JSON Lines: one Person object per line. */
+  NDJSON;
+
+  /**
+   * Infers the format from a file name: {@code .ndjson} and {@code .jsonl} are NDJSON, anything
+   * else is a JSON array. A trailing {@code .gz} is ignored.
+   *
+   * @param fileName name of the input file
+   * @return the inferred format
+   */
+  public static EImportFormat fromFileName(String fileName) {
+    String lower = ImportSources.stripGzip(fileName.toLowerCase(Locale.ROOT));
+    return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") ? NDJSON : ARRAY;
+  }
+}
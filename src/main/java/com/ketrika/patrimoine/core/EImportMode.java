@@ -0,0 +1,19 @@
+package com.ketrika.patrimoine.core;
+
+/**
+ * Enumeration of the strategies used by {@link ImportCommand} to read the input file.
+ */
+public enum EImportMode {
+
+  /** Reads the whole document as a single JSON tree before parsing. Kept as a fallback. */
+  TREE,
+
+  /** Reads the top-level array one Person object at a time; memory stays flat. */
+  STREAMING,
+
+  /** Cuts an NDJSON file into line-aligned chunks that are parsed in parallel. */
+  CHUNKED,
+
+  /** Memory-maps an NDJSON or array file and parses regions split at record boundaries in parallel. */
+  MAPPED
+}
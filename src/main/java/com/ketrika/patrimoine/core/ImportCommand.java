@@ -1,6 +1,12 @@
 package com.ketrika.patrimoine.core;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -8,70 +14,423 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.analytics.TagIndex;
 import com.ketrika.patrimoine.models.generals.Person;
+import com.ketrika.patrimoine.models.prices.MarketPrices;
+import com.ketrika.patrimoine.models.prices.PriceFileProvider;
 import com.ketrika.patrimoine.parser.PersonParser;
+import com.ketrika.patrimoine.parser.dto.PersonDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
 /**
- * Command to import assets from a JSON file.
+ * Command to import assets from JSON files.
  */
-@Command(name = "import", description = "Import assets from a JSON file")
+@Command(name = "import", description = "Import assets from JSON files")
 public class ImportCommand implements Callable<Integer> {
   private static final Logger LOGGER = LogManager.getLogger(ImportCommand.class);
 
-  @Option(names = {"-f", "--file"}, description = "Path to CSV file to import", required = true)
-  private File jsonFile;
+  /** Decompressed bytes handed to the parser at a time, and how many may be read ahead. */
+  private static final int INFLATE_BLOCK_SIZE = 64 * 1024;
+  private static final int INFLATE_MAX_BLOCKS = 16;
+
+  @Option(names = {"-f", "--file"}, required = true,
+      description = "JSON or NDJSON file (optionally .gz), directory, or glob (e.g. 'exports/*.json') to import")
+  private String source;
+
+  @Option(names = {"--format"},
+      description = "Input format: ${COMPLETION-CANDIDATES} (default: from the file extension)")
+  private EImportFormat format;
+
+  @Option(names = {"-m", "--mode"},
+      description = "Read mode: ${COMPLETION-CANDIDATES} (default: CHUNKED for uncompressed NDJSON, "
+          + "STREAMING otherwise)")
+  private EImportMode mode;
+
+  @Option(names = {"--keep-order"},
+      description = "Keep persons in file order in CHUNKED and MAPPED modes")
+  private boolean keepOrder;
+
+  @Option(names = {"--max-in-flight"}, defaultValue = "1024",
+      description = "Maximum number of entries read ahead of the parsers (default: ${DEFAULT-VALUE})")
+  private int maxInFlight = 1024;
+
+  @Option(names = {"--parallel-files"}, defaultValue = "4",
+      description = "Maximum number of files imported at the same time (default: ${DEFAULT-VALUE})")
+  private int parallelFiles = 4;
+
+  @Option(names = {"--checkpoint"}, paramLabel = "FILE",
+      description = "Journal recording the committed records of each file, used by --resume")
+  private Path checkpoint;
+
+  @Option(names = {"--resume"},
+      description = "Skip the records and files already committed in the --checkpoint journal")
+  private boolean resume;
+
+  @Option(names = {"--checkpoint-every"}, defaultValue = "10000",
+      description = "Number of records per committed batch (default: ${DEFAULT-VALUE})")
+  private int checkpointEvery = 10_000;
+
+  @Option(names = {"--prices"}, paramLabel = "FILE",
+      description = "CSV price file (symbol,price[,timestamp]) pricing the market valuations")
+  private Path prices;
+
+  @Option(names = {"--index-tags"},
+      description = "Index the imported assets by tag as they are imported")
+  private boolean indexTags;
 
   private final PersonParser personParser = new PersonParser();
-  private final List<Person> persons = new CopyOnWriteArrayList<>();
+  // Appended to in bulk by parallel chunks; a copy-on-write list would copy on every append
+  private final List<Person> persons = Collections.synchronizedList(new ArrayList<>());
+  private final List<ImportStats> fileStats = new CopyOnWriteArrayList<>();
+  private ImportStats stats;
+  private ImportJournal journal;
+  // Fed by every file sink under its own lock, null unless --index-tags
+  private TagIndex.Builder tagIndexer;
+  private TagIndex tagIndex;
 
   @Override
   public Integer call() throws Exception {
-    if (!jsonFile.exists()) {
-      LOGGER.error("File not found: {}", jsonFile.getAbsolutePath());
+    List<Path> files = ImportSources.resolve(source);
+    if (files.isEmpty()) {
+      LOGGER.error("File not found: {}", new File(source).getAbsolutePath());
+      return 1;
+    }
+    if (maxInFlight < 1) {
+      LOGGER.error("--max-in-flight must be greater than zero: {}", maxInFlight);
       return 1;
     }
+    if (parallelFiles < 1) {
+      LOGGER.error("--parallel-files must be greater than zero: {}", parallelFiles);
+      return 1;
+    }
+    if (checkpointEvery < 1) {
+      LOGGER.error("--checkpoint-every must be greater than zero: {}", checkpointEvery);
+      return 1;
+    }
+    if (resume && checkpoint == null) {
+      LOGGER.error("--resume requires --checkpoint");
+      return 1;
+    }
+    journal = checkpoint != null ? ImportJournal.open(checkpoint, resume) : null;
+    if (prices != null) {
+      MarketPrices.install(PriceFileProvider.load(prices));
+    }
+    tagIndexer = indexTags ? new TagIndex.Builder() : null;
 
+    long start = System.nanoTime();
+    boolean success = true;
+    // All files share one virtual-thread pool; the semaphore bounds how many are open at once
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Semaphore slots = new Semaphore(parallelFiles);
+      List<Future<Boolean>> results = new ArrayList<>(files.size());
+      for (Path file : files) {
+        results.add(executor.submit(() -> {
+          slots.acquire();
+          try {
+            return importFile(file);
+          } finally {
+            slots.release();
+          }
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        try {
+          success &= result.get();
+        } catch (ExecutionException ex) {
+          LOGGER.error("Import failed: {}", ex.getCause().getMessage());
+          success = false;
+        }
+      }
+    }
+
+    stats = new ImportStats(files.size() + " file(s)",
+        fileStats.stream().mapToLong(ImportStats::records).sum(),
+        fileStats.stream().mapToLong(ImportStats::bytes).sum(),
+        System.nanoTime() - start);
+    if (files.size() > 1) {
+      LOGGER.info("Imported {}", stats.summary());
+    }
+    if (tagIndexer != null) {
+      tagIndex = tagIndexer.build();
+      tagIndexer = null;
+      LOGGER.info("Indexed {} asset(s) under {} tag(s)", tagIndex.size(), tagIndex.tags().size());
+    }
+    return success ? 0 : 1;
+  }
+
+  /**
+   * Imports one file with the requested (or inferred) format and mode.
+   *
+   * @return {@code true} if the file was imported
+   */
+  private boolean importFile(Path file) throws IOException, InterruptedException {
+    EImportFormat effectiveFormat = format != null
+        ? format
+        : EImportFormat.fromFileName(file.getFileName().toString());
+    boolean gzip = ImportSources.isGzip(file);
+    EImportMode effectiveMode = mode != null
+        ? mode
+        : effectiveFormat == EImportFormat.NDJSON && !gzip
+            ? EImportMode.CHUNKED
+            : EImportMode.STREAMING;
+
+    if (gzip && (effectiveMode == EImportMode.CHUNKED || effectiveMode == EImportMode.MAPPED)) {
+      // A compressed stream cannot be split or mapped, it has to be inflated from the start
+      LOGGER.warn("{}: {} mode cannot read compressed files, using STREAMING", file, effectiveMode);
+      effectiveMode = EImportMode.STREAMING;
+    }
+
+    if (effectiveMode == EImportMode.TREE && effectiveFormat != EImportFormat.ARRAY) {
+      LOGGER.error("{}: TREE mode only reads JSON arrays", file);
+      return false;
+    }
+    if (effectiveMode == EImportMode.CHUNKED && effectiveFormat != EImportFormat.NDJSON) {
+      LOGGER.error("{}: CHUNKED mode only reads NDJSON files", file);
+      return false;
+    }
+
+    long skip = 0;
+    if (journal != null) {
+      ImportJournal.Checkpoint resumed = journal.begin(file);
+      if (resumed.complete()) {
+        LOGGER.info("{}: already imported, skipping", file);
+        return true;
+      }
+      if (resumed.records() > 0 && (effectiveMode == EImportMode.CHUNKED
+          || effectiveMode == EImportMode.MAPPED)) {
+        LOGGER.warn("{}: {} mode resumes whole files only, importing from the start", file,
+            effectiveMode);
+      } else if (resumed.records() > 0) {
+        LOGGER.info("{}: resuming after {} records", file, resumed.records());
+        skip = resumed.records();
+      }
+    }
+
+    long start = System.nanoTime();
+    var sink = new FileSink(file, skip);
+    boolean imported = switch (effectiveMode) {
+      case TREE -> importTree(file, sink);
+      case STREAMING -> importStreaming(file, effectiveFormat, sink);
+      case CHUNKED -> importChunked(file, sink);
+      case MAPPED -> importMapped(file, effectiveFormat, sink);
+    };
+
+    // Only a file whose every record was read is journaled complete: a failed chunk or region
+    // makes the import return false
+    if (imported) {
+      if (journal != null) {
+        journal.complete(file, skip + sink.records);
+      }
+      var summary = new ImportStats(file.getFileName().toString(), sink.count.sum(),
+          Files.size(file), System.nanoTime() - start);
+      fileStats.add(summary);
+      LOGGER.info("Imported {}", summary.summary());
+    }
+    return imported;
+  }
+
+  /**
+   * Reads the whole document into a {@link JsonNode} tree, then parses every entry.
+   */
+  private boolean importTree(Path file, FileSink sink) throws InterruptedException {
     JsonNode root;
-    try {
-      root = new ObjectMapper().readTree(jsonFile);
+    try (InputStream in = open(file)) {
+      root = new ObjectMapper().readTree(in);
     } catch (Exception e) {
       LOGGER.error("Invalid JSON: {}", e.getMessage());
-      return 1;
+      return false;
     }
 
     if (!root.isArray()) {
       LOGGER.error("JSON must be an array of Person");
-      return 1;
+      return false;
     }
 
-    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
-      // Submit parsing tasks concurrently
-      List<Future<Optional<Person>>> futures = StreamSupport
-          .stream(root.spliterator(), false)
-          .map(node -> executor.submit(() -> personParser.parse(node)))
-          .toList();
-      // Collect results
-      for (Future<Optional<Person>> future : futures) {
-        try {
-          future.get().ifPresent(persons::add);
-        } catch (ExecutionException ex) {
-          LOGGER.error("Failed to parse a person entry: {}", ex.getCause().getMessage());
+    PersonPipeline<JsonNode> pipeline = newPipeline(personParser::parse, sink);
+    try (pipeline) {
+      long index = 0;
+      for (JsonNode node : root) {
+        if (index++ >= sink.skip) {
+          pipeline.submit(node);
         }
       }
     }
 
-    LOGGER.trace("Successfully imported: {}", persons.size());
-    return 0;
+    sink.records = pipeline.getCollected();
+    return true;
+  }
+
+  /**
+   * Reads the top-level array, or the NDJSON lines, one entry at a time with a {@link JsonParser},
+   * so that only the entries being parsed are held in memory. Each entry is bound straight from the
+   * token stream to a {@link PersonDto}, without building a {@link JsonNode} tree.
+   */
+  private boolean importStreaming(Path file, EImportFormat effectiveFormat, FileSink sink)
+      throws InterruptedException {
+    PersonPipeline<PersonDto> pipeline = newPipeline(personParser::parse, sink);
+    try (pipeline; JsonParser parser = UtilsJson.recordMapper().createParser(open(file))) {
+      // Blocks whenever the parsers fall behind the reader
+      if (effectiveFormat == EImportFormat.NDJSON) {
+        JsonRecordReader.readSequence(parser, sink.skip, PersonDto.class, pipeline::submit);
+      } else {
+        JsonRecordReader.readArray(parser, sink.skip, PersonDto.class, pipeline::submit);
+      }
+    } catch (IllegalArgumentException e) {
+      LOGGER.error(e.getMessage());
+      return false;
+    } catch (JacksonException e) {
+      LOGGER.error("Invalid JSON: {}", e.getMessage());
+      return false;
+    } catch (IOException e) {
+      LOGGER.error("Cannot read file: {}", e.getMessage());
+      return false;
+    }
+
+    sink.records = pipeline.getCollected();
+    return true;
+  }
+
+  /**
+   * Opens a file for sequential reading. Gzipped files are inflated on a background thread, so that
+   * decompression overlaps with parsing while only a few blocks are buffered.
+   */
+  private static InputStream open(Path file) throws IOException {
+    InputStream in = Files.newInputStream(file);
+    if (!ImportSources.isGzip(file)) {
+      return in;
+    }
+    try {
+      return new ReadAheadInputStream(new GZIPInputStream(in, INFLATE_BLOCK_SIZE),
+          INFLATE_BLOCK_SIZE, INFLATE_MAX_BLOCKS);
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Cuts an NDJSON file into line-aligned chunks and parses them in parallel.
+   */
+  private boolean importChunked(Path file, FileSink sink) throws InterruptedException {
+    var reader = new NdjsonChunkReader(personParser, chunkCount(), keepOrder);
+    try {
+      sink.records = reader.read(file, sink::acceptAll);
+    } catch (IOException e) {
+      LOGGER.error("Cannot read file: {}", e.getMessage());
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Memory-maps the file and parses regions split at record boundaries in parallel.
+   */
+  private boolean importMapped(Path file, EImportFormat effectiveFormat, FileSink sink)
+      throws InterruptedException {
+    var reader = new MappedChunkReader(personParser, chunkCount(), keepOrder);
+    try {
+      sink.records = reader.read(file, effectiveFormat, sink::acceptAll);
+    } catch (IllegalArgumentException e) {
+      LOGGER.error(e.getMessage());
+      return false;
+    } catch (IOException e) {
+      LOGGER.error("Cannot read file: {}", e.getMessage());
+      return false;
+    }
+
+    return true;
+  }
+
+  private static int chunkCount() {
+    // A few chunks per core evens out chunks that happen to hold larger records
+    return 4 * Runtime.getRuntime().availableProcessors();
+  }
+
+  private <T> PersonPipeline<T> newPipeline(Function<? super T, Optional<Person>> parser,
+      FileSink sink) {
+    var pipeline = new PersonPipeline<T>(parser, maxInFlight, sink::accept);
+    if (journal != null) {
+      // Entries are collected in file order, so 'skip + collected' leading records are committed
+      pipeline.commitEvery(checkpointEvery,
+          collected -> journal.commit(sink.file, sink.skip + collected));
+    }
+    return pipeline;
   }
 
   public List<Person> getPersons() {
     return persons;
   }
+
+  /**
+   * @return the imported assets indexed by tag, or {@code null} unless run with
+   *         {@code --index-tags}
+   */
+  public TagIndex getTagIndex() {
+    return tagIndex;
+  }
+
+  /**
+   * @return totals over every file of the last run, or {@code null} before the first run
+   */
+  public ImportStats getStats() {
+    return stats;
+  }
+
+  /**
+   * @return throughput of each file imported successfully, in completion order
+   */
+  public List<ImportStats> getFileStats() {
+    return Collections.unmodifiableList(fileStats);
+  }
+
+  /**
+   * Adds the persons of one file to the merged result set and counts them, and indexes their
+   * assets by tag when requested.
+   */
+  private final class FileSink {
+
+    private final Path file;
+    private final long skip;
+    private final LongAdder count = new LongAdder();
+    // Records read after the skipped ones, parsed or not; set once the file is read
+    private long records;
+
+    FileSink(Path file, long skip) {
+      this.file = file;
+      this.skip = skip;
+    }
+
+    void accept(Person person) {
+      persons.add(person);
+      count.increment();
+      if (tagIndexer != null) {
+        synchronized (tagIndexer) {
+          tagIndexer.add(person);
+        }
+      }
+    }
+
+    void acceptAll(List<Person> batch) {
+      persons.addAll(batch);
+      count.add(batch.size());
+      if (tagIndexer != null) {
+        synchronized (tagIndexer) {
+          batch.forEach(tagIndexer::add);
+        }
+      }
+    }
+  }
 }
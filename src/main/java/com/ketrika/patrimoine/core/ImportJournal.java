@@ -0,0 +1,141 @@
+package com.ketrika.patrimoine.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Checkpoint journal recording how far the import of each file has been committed.
+ * <p>
+ * The journal holds one line per file: the number of leading records already handed to the result
+ * set, whether the file is complete, and the size and modification time of the file, so that a file
+ * changed since the checkpoint is imported again from the start. It is rewritten through a
+ * temporary file and an atomic rename once per committed batch, so it stays a few lines long and a
+ * crash leaves either the previous or the new version.
+ */
+public final class ImportJournal {
+
+  private static final Logger LOGGER = LogManager.getLogger(ImportJournal.class);
+  private static final String SEPARATOR = "\t";
+
+  /**
+   * Where to resume the import of one file.
+   *
+   * @param records number of leading records already committed
+   * @param complete whether the whole file was already imported
+   */
+  public record Checkpoint(long records, boolean complete) {}
+
+  private record Entry(long size, long modified, long records, boolean complete) {}
+
+  private final Path path;
+  // Guarded by this
+  private final Map<String, Entry> entries = new TreeMap<>();
+
+  private ImportJournal(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Opens a journal.
+   *
+   * @param path the journal file
+   * @param resume whether to load the checkpoints of a previous run; otherwise the journal starts
+   *        empty and the file is overwritten at the first commit
+   * @return the journal
+   * @throws IOException if an existing journal cannot be read
+   */
+  public static ImportJournal open(Path path, boolean resume) throws IOException {
+    var journal = new ImportJournal(Objects.requireNonNull(path, "path cannot be null"));
+    if (resume && Files.exists(path)) {
+      for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+        String[] fields = line.split(SEPARATOR, 5);
+        if (fields.length != 5) {
+          continue;
+        }
+        try {
+          journal.entries.put(fields[4], new Entry(Long.parseLong(fields[0]),
+              Long.parseLong(fields[1]), Long.parseLong(fields[2]), Boolean.parseBoolean(fields[3])));
+        } catch (NumberFormatException e) {
+          LOGGER.warn("Ignoring malformed checkpoint: {}", line);
+        }
+      }
+    }
+    return journal;
+  }
+
+  /**
+   * Starts (or resumes) the import of a file.
+   *
+   * @param file the file about to be imported
+   * @return the checkpoint to resume from; zero records if the file is new or has changed
+   * @throws IOException if the file attributes cannot be read
+   */
+  public synchronized Checkpoint begin(Path file) throws IOException {
+    String key = key(file);
+    long size = Files.size(file);
+    long modified = Files.getLastModifiedTime(file).toMillis();
+
+    Entry entry = entries.get(key);
+    if (entry != null && entry.size() == size && entry.modified() == modified) {
+      return new Checkpoint(entry.records(), entry.complete());
+    }
+    entries.put(key, new Entry(size, modified, 0, false));
+    return new Checkpoint(0, false);
+  }
+
+  /**
+   * Records that the first {@code records} records of a file have been committed.
+   *
+   * @param file a file passed to {@link #begin(Path)}
+   * @param records number of leading records committed
+   */
+  public void commit(Path file, long records) {
+    update(file, records, false);
+  }
+
+  /**
+   * Records that a file has been imported entirely.
+   *
+   * @param file a file passed to {@link #begin(Path)}
+   * @param records total number of records in the file
+   */
+  public void complete(Path file, long records) {
+    update(file, records, true);
+  }
+
+  private synchronized void update(Path file, long records, boolean complete) {
+    Entry entry = entries.get(key(file));
+    if (entry == null) {
+      throw new IllegalStateException("begin() was not called for " + file);
+    }
+    entries.put(key(file), new Entry(entry.size(), entry.modified(), records, complete));
+
+    List<String> lines = new ArrayList<>(entries.size());
+    entries.forEach((name, e) -> lines.add(String.join(SEPARATOR, Long.toString(e.size()),
+        Long.toString(e.modified()), Long.toString(e.records()), Boolean.toString(e.complete()),
+        name)));
+    try {
+      Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+      Files.write(temporary, lines, StandardCharsets.UTF_8);
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      // A missed checkpoint only means more work on resume; the import itself goes on
+      LOGGER.error("Cannot write checkpoint journal {}: {}", path, e.getMessage());
+    }
+  }
+
+  private static String key(Path file) {
+    return file.toAbsolutePath().normalize().toString();
+  }
+}
@@ -0,0 +1,120 @@
+package com.ketrika.patrimoine.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the {@code --file} argument of {@link ImportCommand} into the files to import.
+ * <p>
+ * The argument may name a single file, a directory (every importable file directly inside it), or
+ * a glob such as {@code exports/*.ndjson} or {@code exports/**}{@code /*.json}. Gzipped files
+ * ({@code .json.gz}, {@code .ndjson.gz}, ...) are importable as well.
+ */
+public final class ImportSources {
+
+  private static final String GLOB_CHARS = "*?[{";
+  private static final String GZIP_EXTENSION = ".gz";
+
+  private ImportSources() {
+    // utility class
+  }
+
+  /**
+   * Lists the files designated by the argument, sorted by path.
+   *
+   * @param source a file, directory or glob
+   * @return the matching files; empty if nothing matches
+   * @throws IOException if a directory cannot be listed
+   */
+  public static List<Path> resolve(String source) throws IOException {
+    if (isGlob(source)) {
+      return glob(source);
+    }
+
+    Path path;
+    try {
+      path = Path.of(source);
+    } catch (InvalidPathException e) {
+      return List.of();
+    }
+    if (Files.isDirectory(path)) {
+      try (Stream<Path> files = Files.list(path)) {
+        return files.filter(Files::isRegularFile)
+            .filter(ImportSources::isImportable)
+            .sorted()
+            .toList();
+      }
+    }
+    return Files.isRegularFile(path) ? List.of(path) : List.of();
+  }
+
+  /**
+   * Tells whether a file name has one of the extensions the importer reads.
+   *
+   * @param file the file to check
+   * @return {@code true} for {@code .json}, {@code .ndjson} and {@code .jsonl} files, gzipped or not
+   */
+  public static boolean isImportable(Path file) {
+    String name = stripGzip(file.getFileName().toString().toLowerCase(Locale.ROOT));
+    return name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl");
+  }
+
+  /**
+   * Tells whether a file is gzip-compressed, judging by its name.
+   *
+   * @param file the file to check
+   * @return {@code true} for {@code .gz} files
+   */
+  public static boolean isGzip(Path file) {
+    return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(GZIP_EXTENSION);
+  }
+
+  static String stripGzip(String lowerCaseName) {
+    return lowerCaseName.endsWith(GZIP_EXTENSION)
+        ? lowerCaseName.substring(0, lowerCaseName.length() - GZIP_EXTENSION.length())
+        : lowerCaseName;
+  }
+
+  private static boolean isGlob(String source) {
+    return source.chars().anyMatch(c -> GLOB_CHARS.indexOf(c) >= 0);
+  }
+
+  private static List<Path> glob(String source) throws IOException {
+    String pattern = source.replace(File.separatorChar, '/');
+
+    // Walk from the deepest directory that precedes the first wildcard
+    int wildcard = 0;
+    while (GLOB_CHARS.indexOf(pattern.charAt(wildcard)) < 0) {
+      wildcard++;
+    }
+    int lastSeparator = pattern.lastIndexOf('/', wildcard);
+    if (lastSeparator < 0) {
+      pattern = "./" + pattern;
+      lastSeparator = 1;
+    }
+    Path base = Path.of(pattern.substring(0, lastSeparator + 1));
+    if (!Files.isDirectory(base)) {
+      return List.of();
+    }
+
+    String remainder = pattern.substring(lastSeparator + 1);
+    int depth = remainder.contains("**")
+        ? Integer.MAX_VALUE
+        : (int) remainder.chars().filter(c -> c == '/').count() + 1;
+    PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+    try (Stream<Path> files = Files.walk(base, depth)) {
+      return files.filter(Files::isRegularFile)
+          .filter(matcher::matches)
+          .sorted()
+          .toList();
+    }
+  }
+}
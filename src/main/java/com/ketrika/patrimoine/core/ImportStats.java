@@ -0,0 +1,41 @@
+package com.ketrika.patrimoine.core;
+
+import java.util.Locale;
+
+/**
+ * Throughput figures of one import.
+ *
+ * @param source name of what was imported
+ * @param records number of persons imported
+ * @param bytes size of the input in bytes
+ * @param elapsedNanos wall-clock duration of the import
+ */
+public record ImportStats(String source, long records, long bytes, long elapsedNanos) {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+  private static final double BYTES_PER_MB = 1024d * 1024d;
+
+  /**
+   * @return persons imported per second
+   */
+  public double recordsPerSecond() {
+    return elapsedNanos == 0 ? 0 : records * NANOS_PER_SECOND / elapsedNanos;
+  }
+
+  /**
+   * @return megabytes of input read per second
+   */
+  public double megabytesPerSecond() {
+    return elapsedNanos == 0 ? 0 : bytes / BYTES_PER_MB * NANOS_PER_SECOND / elapsedNanos;
+  }
+
+  /**
+   * @return a one-line summary suitable for logging
+   */
+  public String summary() {
+    return String.format(Locale.ROOT,
+        "%s: %d persons, %.1f MB in %d ms (%.0f records/s, %.1f MB/s)",
+        source, records, bytes / BYTES_PER_MB, elapsedNanos / 1_000_000,
+        recordsPerSecond(), megabytesPerSecond());
+  }
+}
@@ -0,0 +1,189 @@
+package com.ketrika.patrimoine.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.utils.UtilsJson;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Streams the records of a JSON document one at a time.
+ * <p>
+ * Unlike {@code ObjectMapper.readTree(File)}, only the record currently being read is materialized,
+ * as a {@link JsonNode} or bound to a record type, so memory use is bounded by the largest single
+ * record rather than by the size of the file.
+ */
+public final class JsonRecordReader {
+
+  private static final Logger LOGGER = LogManager.getLogger(JsonRecordReader.class);
+
+  private JsonRecordReader() {
+    // utility class
+  }
+
+  /**
+   * Receives the records read from the document.
+   */
+  @FunctionalInterface
+  public interface IRecordHandler<T> {
+    /**
+     * Handles one record; may block to apply backpressure on the reader.
+     *
+     * @param record the record just read
+     * @throws InterruptedException if interrupted while blocked
+     */
+    void accept(T record) throws InterruptedException;
+  }
+
+  /**
+   * Reads a top-level JSON array and hands each element to the consumer, in document order.
+   *
+   * @param parser parser positioned before the first token of the document
+   * @param handler receives each element of the array
+   * @return the number of elements read
+   * @throws IllegalArgumentException if the document is not a JSON array
+   * @throws tools.jackson.core.JacksonException if the document is not valid JSON
+   * @throws InterruptedException if interrupted while the handler was blocked
+   */
+  public static long readArray(JsonParser parser, IRecordHandler<? super JsonNode> handler)
+      throws InterruptedException {
+    return readArray(parser, 0, JsonNode.class, handler);
+  }
+
+  /**
+   * Reads a top-level JSON array, skipping its first elements without materializing them.
+   *
+   * @param parser parser positioned before the first token of the document
+   * @param skip number of leading elements to skip
+   * @param handler receives each element after the skipped ones
+   * @return the number of elements handed to the handler
+   * @throws IllegalArgumentException if the document is not a JSON array
+   * @throws tools.jackson.core.JacksonException if the document is not valid JSON
+   * @throws InterruptedException if interrupted while the handler was blocked
+   */
+  public static long readArray(JsonParser parser, long skip,
+      IRecordHandler<? super JsonNode> handler) throws InterruptedException {
+    return readArray(parser, skip, JsonNode.class, handler);
+  }
+
+  /**
+   * Reads a top-level JSON array and binds each element to a record type, straight from the token
+   * stream. An element that cannot be bound is logged and handed over as {@code null}, so that
+   * element positions stay exact; the elements after it are still read.
+   *
+   * @param <T> the record type
+   * @param parser parser positioned before the first token of the document
+   * @param skip number of leading elements to skip
+   * @param type the record type to bind each element to
+   * @param handler receives each element after the skipped ones ({@code null} for JSON
+   *        {@code null} or an element that could not be bound)
+   * @return the number of elements handed to the handler
+   * @throws IllegalArgumentException if the document is not a JSON array
+   * @throws tools.jackson.core.JacksonException if the document is not valid JSON
+   * @throws InterruptedException if interrupted while the handler was blocked
+   */
+  public static <T> long readArray(JsonParser parser, long skip, Class<T> type,
+      IRecordHandler<? super T> handler) throws InterruptedException {
+    if (parser.nextToken() != JsonToken.START_ARRAY) {
+      throw new IllegalArgumentException("JSON must be an array of Person");
+    }
+
+    TokenStreamContext array = parser.streamReadContext();
+    long skipped = 0;
+    long count = 0;
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (skipped < skip) {
+        parser.skipChildren();
+        skipped++;
+        continue;
+      }
+      handler.accept(bind(parser, type, array));
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Reads a sequence of root-level JSON values, such as an NDJSON file, and hands each value to the
+   * handler, in document order.
+   *
+   * @param parser parser positioned before the first token of the document
+   * @param handler receives each value
+   * @return the number of values read
+   * @throws tools.jackson.core.JacksonException if the document is not valid JSON
+   * @throws InterruptedException if interrupted while the handler was blocked
+   */
+  public static long readSequence(JsonParser parser, IRecordHandler<? super JsonNode> handler)
+      throws InterruptedException {
+    return readSequence(parser, 0, JsonNode.class, handler);
+  }
+
+  /**
+   * Reads a sequence of root-level JSON values, skipping the first ones without materializing them.
+   *
+   * @param parser parser positioned before the first token of the document
+   * @param skip number of leading values to skip
+   * @param handler receives each value after the skipped ones
+   * @return the number of values handed to the handler
+   * @throws tools.jackson.core.JacksonException if the document is not valid JSON
+   * @throws InterruptedException if interrupted while the handler was blocked
+   */
+  public static long readSequence(JsonParser parser, long skip,
+      IRecordHandler<? super JsonNode> handler) throws InterruptedException {
+    return readSequence(parser, skip, JsonNode.class, handler);
+  }
+
+  /**
+   * Reads a sequence of root-level JSON values and binds each one to a record type, straight from
+   * the token stream. A value that cannot be bound is logged and handed over as {@code null}.
+   *
+   * @param <T> the record type
+   * @param parser parser positioned before the first token of the document
+   * @param skip number of leading values to skip
+   * @param type the record type to bind each value to
+   * @param handler receives each value after the skipped ones ({@code null} for JSON {@code null}
+   *        or a value that could not be bound)
+   * @return the number of values handed to the handler
+   * @throws tools.jackson.core.JacksonException if the document is not valid JSON
+   * @throws InterruptedException if interrupted while the handler was blocked
+   */
+  public static <T> long readSequence(JsonParser parser, long skip, Class<T> type,
+      IRecordHandler<? super T> handler) throws InterruptedException {
+    TokenStreamContext root = parser.streamReadContext();
+    long skipped = 0;
+    long count = 0;
+    while (parser.nextToken() != null) {
+      if (skipped < skip) {
+        parser.skipChildren();
+        skipped++;
+        continue;
+      }
+      handler.accept(bind(parser, type, root));
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Binds the value at the current token. If binding fails on well-formed JSON, the rest of the
+   * value is skipped so that reading can go on with the next one.
+   *
+   * @param container context of the array or sequence holding the value
+   * @return the bound value, or {@code null} if it could not be bound
+   */
+  private static <T> T bind(JsonParser parser, Class<T> type, TokenStreamContext container) {
+    try {
+      return UtilsJson.recordMapper().readValue(parser, type);
+    } catch (DatabindException e) {
+      LOGGER.error("Failed to parse a person entry: {}", e.getOriginalMessage());
+      // Unwind to the container, the next token then starts the next value
+      while (parser.streamReadContext() != container && parser.nextToken() != null) {
+        // skip the remainder of the value
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package com.ketrika.patrimoine.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.models.generals.Person;
+import com.ketrika.patrimoine.parser.PersonParser;
+import com.ketrika.patrimoine.parser.dto.PersonDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Reads a JSON array or NDJSON file in parallel through memory-mapped regions.
+ * <p>
+ * The file is split at record boundaries and every region is mapped with {@link FileChannel#map},
+ * so each worker parses straight from the page cache without copying through a stream. NDJSON
+ * regions end on line feeds. Array regions end on the commas separating the top-level elements;
+ * finding them takes one sequential scan of the file, which runs at memory speed.
+ */
+public final class MappedChunkReader {
+
+  private static final Logger LOGGER = LogManager.getLogger(MappedChunkReader.class);
+
+  /** Largest region mapped at once; a single mapping cannot exceed 2 GB. */
+  private static final long MAX_REGION_BYTES = 1L << 30;
+
+  private static final byte[] OPEN_ARRAY = {'['};
+  private static final byte[] CLOSE_ARRAY = {']'};
+  private static final ObjectReader LINE_READER = UtilsJson.lineReader(PersonDto.class);
+
+  private final PersonParser parser;
+  private final int chunks;
+  private final boolean keepOrder;
+
+  /**
+   * Constructs a mapped reader.
+   *
+   * @param parser maps each bound record into a Person
+   * @param chunks desired number of regions parsed in parallel
+   * @param keepOrder whether persons are handed out in file order
+   */
+  public MappedChunkReader(PersonParser parser, int chunks, boolean keepOrder) {
+    this.parser = Objects.requireNonNull(parser, "parser cannot be null");
+    this.chunks = Math.max(1, chunks);
+    this.keepOrder = keepOrder;
+  }
+
+  /**
+   * Maps, splits and parses the file.
+   *
+   * @param file the file to import
+   * @param format layout of the file
+   * @param sink receives the persons parsed from each region
+   * @return number of records (lines or array elements) read, parsed or not
+   * @throws IOException if the file cannot be mapped, or a region cannot be read or parsed
+   * @throws IllegalArgumentException if an ARRAY file is not a JSON array
+   * @throws InterruptedException if interrupted while waiting for the regions
+   */
+  public long read(Path file, EImportFormat format, Consumer<List<Person>> sink)
+      throws IOException, InterruptedException {
+    var records = new LongAdder();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      int count = (int) Math.max(chunks, (size + MAX_REGION_BYTES - 1) / MAX_REGION_BYTES);
+
+      long[] bounds = format == EImportFormat.NDJSON
+          ? lineRegions(channel, count)
+          : arrayRegions(channel, count);
+
+      List<Callable<List<Person>>> tasks = new ArrayList<>(bounds.length / 2);
+      for (int i = 0; i < bounds.length; i += 2) {
+        MappedByteBuffer region = channel.map(MapMode.READ_ONLY, bounds[i], bounds[i + 1] - bounds[i]);
+        tasks.add(format == EImportFormat.NDJSON
+            ? () -> parseLines(region, records)
+            : () -> parseElements(region, records));
+      }
+      ChunkTasks.run(tasks, keepOrder, sink);
+    }
+    return records.sum();
+  }
+
+  /**
+   * Splits an NDJSON file on line feeds.
+   *
+   * @return pairs of {@code [start, end)} offsets
+   */
+  private static long[] lineRegions(FileChannel channel, int count) throws IOException {
+    long[] bounds = NdjsonChunkReader.split(channel, count);
+    long[] regions = new long[2 * (bounds.length - 1)];
+    for (int i = 0; i + 1 < bounds.length; i++) {
+      regions[2 * i] = bounds[i];
+      regions[2 * i + 1] = bounds[i + 1];
+    }
+    return regions;
+  }
+
+  /**
+   * Splits a JSON array between its top-level elements. Each region holds whole elements, without
+   * the enclosing brackets and without the comma that follows it.
+   *
+   * @return pairs of {@code [start, end)} offsets
+   */
+  static long[] arrayRegions(FileChannel channel, int count) throws IOException {
+    long size = channel.size();
+    long step = Math.max(1, size / count);
+    List<Long> regions = new ArrayList<>();
+
+    long regionStart = -1;
+    long nextSplit = step;
+    int depth = 0;
+    boolean inString = false;
+    boolean escaped = false;
+
+    for (long base = 0; base < size; base += MAX_REGION_BYTES) {
+      MappedByteBuffer window = channel.map(MapMode.READ_ONLY, base,
+          Math.min(MAX_REGION_BYTES, size - base));
+      for (int i = 0, n = window.limit(); i < n; i++) {
+        byte b = window.get(i);
+        if (inString) {
+          if (escaped) {
+            escaped = false;
+          } else if (b == '\\') {
+            escaped = true;
+          } else if (b == '"') {
+            inString = false;
+          }
+          continue;
+        }
+
+        long position = base + i;
+        switch (b) {
+          case '"' -> inString = true;
+          case '[', '{' -> {
+            if (depth == 0) {
+              if (b != '[') {
+                throw new IllegalArgumentException("JSON must be an array of Person");
+              }
+              regionStart = position + 1;
+            }
+            depth++;
+          }
+          case ']', '}' -> {
+            depth--;
+            if (depth == 0) {
+              regions.add(regionStart);
+              regions.add(position);
+              return regions.stream().mapToLong(Long::longValue).toArray();
+            }
+          }
+          case ',' -> {
+            if (depth == 1 && position >= nextSplit) {
+              regions.add(regionStart);
+              regions.add(position);
+              regionStart = position + 1;
+              nextSplit = position + step;
+            }
+          }
+          case ' ', '\t', '\r', '\n' -> {
+            // insignificant whitespace
+          }
+          default -> {
+            if (depth == 0) {
+              throw new IllegalArgumentException("JSON must be an array of Person");
+            }
+          }
+        }
+      }
+    }
+    throw new IllegalArgumentException("JSON must be an array of Person");
+  }
+
+  private List<Person> parseLines(ByteBuffer region, LongAdder records) {
+    List<Person> result = new ArrayList<>();
+    int start = 0;
+    for (int i = 0, n = region.limit(); i <= n; i++) {
+      if (i == n || region.get(i) == '\n') {
+        if (!isBlank(region, start, i)) {
+          records.increment();
+          try {
+            PersonDto dto = LINE_READER.readValue(
+                new ByteBufferInputStream(region.slice(start, i - start)));
+            parse(dto, result);
+          } catch (JacksonException e) {
+            LOGGER.error("Invalid JSON line: {}", e.getMessage());
+          }
+        }
+        start = i + 1;
+      }
+    }
+    return result;
+  }
+
+  private List<Person> parseElements(ByteBuffer region, LongAdder records)
+      throws InterruptedException {
+    List<Person> result = new ArrayList<>();
+    // Re-wrap the region in brackets so that it reads as an array of its own
+    InputStream in = new SequenceInputStream(new ByteArrayInputStream(OPEN_ARRAY),
+        new SequenceInputStream(new ByteBufferInputStream(region),
+            new ByteArrayInputStream(CLOSE_ARRAY)));
+    try (JsonParser json = UtilsJson.recordMapper().createParser(in)) {
+      records.add(JsonRecordReader.readArray(json, 0, PersonDto.class, dto -> parse(dto, result)));
+    }
+    return result;
+  }
+
+  private void parse(PersonDto dto, List<Person> result) {
+    try {
+      parser.parse(dto).ifPresent(result::add);
+    } catch (RuntimeException e) {
+      LOGGER.error("Failed to parse a person entry: {}", e.getMessage());
+    }
+  }
+
+  private static boolean isBlank(ByteBuffer region, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if ((region.get(i) & 0xFF) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Input stream reading straight from a (mapped) byte buffer.
+   */
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int n = Math.min(len, buffer.remaining());
+      buffer.get(b, off, n);
+      return n;
+    }
+  }
+}
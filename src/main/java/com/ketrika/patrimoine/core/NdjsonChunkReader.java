@@ -0,0 +1,195 @@
+package com.ketrika.patrimoine.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.models.generals.Person;
+import com.ketrika.patrimoine.parser.PersonParser;
+import com.ketrika.patrimoine.parser.dto.PersonDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Reads an NDJSON file (one Person object per line) in parallel.
+ * <p>
+ * The file is cut into byte ranges whose boundaries are moved forward to the next line feed, so
+ * that every line belongs to exactly one chunk. Each chunk is read with positional reads and parsed
+ * by its own virtual thread.
+ */
+public final class NdjsonChunkReader {
+
+  private static final Logger LOGGER = LogManager.getLogger(NdjsonChunkReader.class);
+
+  /** Chunks smaller than this are not worth a thread of their own. */
+  private static final long MIN_CHUNK_BYTES = 64L * 1024;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final ObjectReader LINE_READER = UtilsJson.lineReader(PersonDto.class);
+
+  private final PersonParser parser;
+  private final int chunks;
+  private final boolean keepOrder;
+
+  /**
+   * Constructs a chunk reader.
+   *
+   * @param parser maps the entry bound from each line into a Person
+   * @param chunks maximum number of chunks to cut the file into
+   * @param keepOrder whether persons are handed out in file order
+   */
+  public NdjsonChunkReader(PersonParser parser, int chunks, boolean keepOrder) {
+    this.parser = Objects.requireNonNull(parser, "parser cannot be null");
+    this.chunks = Math.max(1, chunks);
+    this.keepOrder = keepOrder;
+  }
+
+  /**
+   * Reads and parses the file.
+   * <p>
+   * The sink receives the persons of one chunk at a time: in chunk order when order is kept,
+   * otherwise as soon as each chunk is done.
+   *
+   * @param file the NDJSON file
+   * @param sink receives the persons parsed from each chunk
+   * @return number of records (non-blank lines) read, parsed or not
+   * @throws IOException if the file cannot be opened, or a chunk cannot be read
+   * @throws InterruptedException if interrupted while waiting for the chunks
+   */
+  public long read(Path file, Consumer<List<Person>> sink)
+      throws IOException, InterruptedException {
+    var records = new LongAdder();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long[] bounds = split(channel, chunks);
+
+      List<Callable<List<Person>>> tasks = new ArrayList<>(bounds.length - 1);
+      for (int i = 0; i + 1 < bounds.length; i++) {
+        long start = bounds[i];
+        long end = bounds[i + 1];
+        tasks.add(() -> readChunk(channel, start, end, records));
+      }
+      ChunkTasks.run(tasks, keepOrder, sink);
+    }
+    return records.sum();
+  }
+
+  /**
+   * Cuts the file into at most {@code chunks} ranges starting at the beginning of a line.
+   *
+   * @param channel the file to split
+   * @param chunks the desired number of ranges
+   * @return the range boundaries: range {@code i} is {@code [bounds[i], bounds[i + 1])}
+   * @throws IOException if the file cannot be read
+   */
+  static long[] split(FileChannel channel, int chunks) throws IOException {
+    long size = channel.size();
+    int count = (int) Math.max(1, Math.min(chunks, size / MIN_CHUNK_BYTES));
+
+    long[] bounds = new long[count + 1];
+    bounds[count] = size;
+    ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+    for (int i = 1; i < count; i++) {
+      long target = Math.max(size / count * i, bounds[i - 1]);
+      bounds[i] = nextLineStart(channel, target, size, buffer);
+    }
+    return bounds;
+  }
+
+  /**
+   * Finds the first line start at or after {@code from}.
+   */
+  private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer buffer)
+      throws IOException {
+    if (from == 0) {
+      return 0;
+    }
+    // A line starts at 'from' when the byte just before it is a line feed
+    long position = from - 1;
+    while (position < size) {
+      buffer.clear();
+      int read = channel.read(buffer, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  private List<Person> readChunk(FileChannel channel, long start, long end, LongAdder records)
+      throws IOException {
+    List<Person> result = new ArrayList<>();
+    try (var reader = new BufferedReader(
+        new InputStreamReader(new RangeInputStream(channel, start, end), StandardCharsets.UTF_8),
+        BUFFER_SIZE)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        records.increment();
+        try {
+          parser.parse(LINE_READER.<PersonDto>readValue(line)).ifPresent(result::add);
+        } catch (JacksonException e) {
+          LOGGER.error("Invalid JSON line: {}", e.getMessage());
+        } catch (RuntimeException e) {
+          LOGGER.error("Failed to parse a person entry: {}", e.getMessage());
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Input stream over a byte range of a file, using positional reads so that several streams can
+   * share one channel.
+   */
+  private static final class RangeInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+
+    RangeInputStream(FileChannel channel, long start, long end) {
+      this.channel = channel;
+      this.position = start;
+      this.end = end;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] one = new byte[1];
+      return read(one, 0, 1) <= 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (position >= end) {
+        return -1;
+      }
+      int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+      if (read > 0) {
+        position += read;
+      }
+      return read;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.ketrika.patrimoine.core;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.models.generals.Person;
+
+/**
+ * Bounded producer/consumer pipeline parsing Person entries on virtual threads.
+ * <p>
+ * The reader calls {@link #submit(Object)} for every entry, either a JSON tree or a record already
+ * bound from the token stream. At most {@code maxInFlight} entries
+ * are waiting to be parsed or collected at any time; once that limit is reached {@code submit}
+ * blocks, so a fast reader cannot outrun the parsers. A single collector drains the results in
+ * submission order and hands every parsed Person to the sink.
+ * <p>
+ * If the sink or the progress listener throws, the pipeline is aborted: the collector keeps
+ * draining (and cancelling) the entries in flight so that the reader never blocks, the next
+ * {@link #submit(Object)} fails fast, and {@link #close()} rethrows the failure.
+ *
+ * @param <T> type of the submitted entries
+ */
+public final class PersonPipeline<T> implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger(PersonPipeline.class);
+
+  /** Marks the end of the input for the collector. */
+  private static final Future<Optional<Person>> END = CompletableFuture.completedFuture(Optional.empty());
+
+  private final Function<? super T, Optional<Person>> parser;
+  private final Consumer<Person> sink;
+  private final BlockingQueue<Future<Optional<Person>>> inFlight;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private int commitEvery = Integer.MAX_VALUE;
+  private LongConsumer committer = collected -> {
+  };
+
+  // Set once by the collector when the sink or the listener throws
+  private volatile RuntimeException failure;
+
+  // Only written by the collector; read after close()
+  private long collected;
+  private long imported;
+  private long failed;
+
+  /**
+   * Constructs a pipeline and starts its collector.
+   *
+   * @param parser parses one entry into a Person
+   * @param maxInFlight maximum number of entries submitted but not yet collected
+   * @param sink receives every successfully parsed Person, in submission order
+   * @throws IllegalArgumentException if maxInFlight is not positive
+   */
+  public PersonPipeline(Function<? super T, Optional<Person>> parser, int maxInFlight,
+      Consumer<Person> sink) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be greater than zero: " + maxInFlight);
+    }
+    this.parser = Objects.requireNonNull(parser, "parser cannot be null");
+    this.sink = Objects.requireNonNull(sink, "sink cannot be null");
+    this.inFlight = new ArrayBlockingQueue<>(maxInFlight);
+    executor.submit(this::collect);
+  }
+
+  /**
+   * Reports progress every {@code batchSize} collected entries, whatever their outcome. Must be
+   * called before the first {@link #submit(Object)}.
+   *
+   * @param batchSize number of entries per batch
+   * @param listener receives the number of entries collected so far, once per batch
+   * @return this pipeline
+   */
+  public PersonPipeline<T> commitEvery(int batchSize, LongConsumer listener) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be greater than zero: " + batchSize);
+    }
+    this.commitEvery = batchSize;
+    this.committer = Objects.requireNonNull(listener, "listener cannot be null");
+    return this;
+  }
+
+  /**
+   * Schedules an entry for parsing, blocking while the pipeline is full.
+   *
+   * @param entry the entry of one Person
+   * @throws InterruptedException if interrupted while waiting for room
+   * @throws IllegalStateException if the pipeline was aborted by a failing sink or listener
+   */
+  public void submit(T entry) throws InterruptedException {
+    checkNotAborted();
+    inFlight.put(executor.submit(() -> parser.apply(entry)));
+  }
+
+  /**
+   * Signals the end of the input and waits until every submitted entry has been collected.
+   *
+   * @throws IllegalStateException if the pipeline was aborted by a failing sink or listener
+   */
+  @Override
+  public void close() {
+    try {
+      inFlight.put(END);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdownNow();
+    }
+    executor.close();
+    checkNotAborted();
+  }
+
+  private void checkNotAborted() {
+    RuntimeException cause = failure;
+    if (cause != null) {
+      throw new IllegalStateException("Person pipeline aborted: " + cause.getMessage(), cause);
+    }
+  }
+
+  /**
+   * @return number of entries collected, parsed or not (valid after {@link #close()})
+   */
+  public long getCollected() {
+    return collected;
+  }
+
+  /**
+   * @return number of entries parsed into a Person (valid after {@link #close()})
+   */
+  public long getImported() {
+    return imported;
+  }
+
+  /**
+   * @return number of entries whose parsing threw (valid after {@link #close()})
+   */
+  public long getFailed() {
+    return failed;
+  }
+
+  private Void collect() throws InterruptedException {
+    for (var future = inFlight.take(); future != END; future = inFlight.take()) {
+      if (failure != null) {
+        // Aborted: only drain, so that the reader and close() never block on a full queue
+        future.cancel(true);
+        continue;
+      }
+      try {
+        collectOne(future);
+      } catch (RuntimeException ex) {
+        failure = ex;
+        LOGGER.error("Aborting the import, the sink failed: {}", ex.getMessage());
+      }
+    }
+    return null;
+  }
+
+  private void collectOne(Future<Optional<Person>> future) throws InterruptedException {
+    try {
+      Optional<Person> person = future.get();
+      if (person.isPresent()) {
+        sink.accept(person.get());
+        imported++;
+      }
+    } catch (ExecutionException ex) {
+      failed++;
+      LOGGER.error("Failed to parse a person entry: {}", ex.getCause().getMessage());
+    }
+    if (++collected % commitEvery == 0) {
+      committer.accept(collected);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.ketrika.patrimoine.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Input stream that reads its source ahead on a background thread.
+ * <p>
+ * Used to run a decompressor concurrently with the parser that consumes its output. The source is
+ * read in fixed-size blocks handed over through a bounded queue, so at most
+ * {@code blockSize * maxBlocks} bytes are buffered; the background thread blocks while the queue is
+ * full.
+ */
+final class ReadAheadInputStream extends InputStream {
+
+  private static final byte[] END = new byte[0];
+
+  private final BlockingQueue<byte[]> blocks;
+  private final Thread reader;
+  // Published to the consumer through the END block
+  private IOException failure;
+
+  private byte[] current = END;
+  private int position;
+  private boolean finished;
+
+  /**
+   * Starts reading the source ahead.
+   *
+   * @param source the stream to read; closed once fully read or when this stream is closed
+   * @param blockSize size of each block handed over to the consumer
+   * @param maxBlocks maximum number of blocks read but not yet consumed
+   */
+  ReadAheadInputStream(InputStream source, int blockSize, int maxBlocks) {
+    this.blocks = new ArrayBlockingQueue<>(maxBlocks);
+    this.reader = Thread.ofVirtual().name("read-ahead").start(() -> pump(source, blockSize));
+  }
+
+  private void pump(InputStream source, int blockSize) {
+    try (source) {
+      int read;
+      do {
+        byte[] block = new byte[blockSize];
+        read = source.readNBytes(block, 0, blockSize);
+        if (read > 0) {
+          blocks.put(read == blockSize ? block : Arrays.copyOf(block, read));
+        }
+      } while (read == blockSize);
+    } catch (IOException e) {
+      failure = e;
+    } catch (InterruptedException e) {
+      // Closed by the consumer, nobody waits for the end of the stream
+      return;
+    }
+    try {
+      blocks.put(END);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    return fill() ? current[position++] & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    int n = Math.min(len, current.length - position);
+    System.arraycopy(current, position, b, off, n);
+    position += n;
+    return n;
+  }
+
+  @Override
+  public int available() {
+    return current.length - position;
+  }
+
+  /**
+   * Makes sure the current block has unread bytes.
+   *
+   * @return {@code false} at the end of the stream
+   */
+  private boolean fill() throws IOException {
+    while (position == current.length) {
+      if (finished) {
+        return false;
+      }
+      try {
+        current = blocks.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for input");
+      }
+      position = 0;
+      if (current == END) {
+        finished = true;
+        if (failure != null) {
+          throw failure;
+        }
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void close() {
+    finished = true;
+    current = END;
+    position = 0;
+    reader.interrupt();
+    blocks.clear();
+  }
+}
@@ -21,7 +21,7 @@ public final class BankAccountAsset implements IAsset {
   private final Instant createdAt;
   private final Instant openedAt;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
 
   private BankAccountAsset(Builder builder) {
     this.name = Objects.requireNonNull(builder.name);
@@ -34,7 +34,7 @@ public final class BankAccountAsset implements IAsset {
     this.jointAccount = builder.jointAccount;
     this.openedAt = builder.openedAt;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -148,7 +148,7 @@ public final class BankAccountAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
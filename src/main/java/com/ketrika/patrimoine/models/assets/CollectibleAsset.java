@@ -21,7 +21,7 @@ public final class CollectibleAsset implements IAsset {
   private final Instant acquiredAt;
   private final BigDecimal purchasePrice;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<CollectibleAsset> valuation;
   private final Instant createdAt;
 
@@ -38,7 +38,7 @@ public final class CollectibleAsset implements IAsset {
     this.acquiredAt = builder.acquiredAt;
     this.purchasePrice = builder.purchasePrice;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -176,7 +176,7 @@ public final class CollectibleAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
@@ -19,7 +19,7 @@ public final class CryptoAsset implements IAsset {
   private final Instant acquiredAt;
   private final BigDecimal purchasePrice;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<CryptoAsset> valuation;
   private final Instant createdAt;
 
@@ -34,7 +34,7 @@ public final class CryptoAsset implements IAsset {
     this.acquiredAt = builder.acquiredAt;
     this.purchasePrice = builder.purchasePrice;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -148,7 +148,7 @@ public final class CryptoAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
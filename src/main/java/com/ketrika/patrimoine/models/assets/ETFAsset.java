@@ -18,7 +18,7 @@ public final class ETFAsset implements IAsset {
   private final BigDecimal expenseRatio;
   private final BigDecimal purchasePrice;
   private final Instant acquiredAt;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<ETFAsset> valuation;
   private final Instant createdAt;
 
@@ -33,7 +33,7 @@ public final class ETFAsset implements IAsset {
     this.expenseRatio = builder.expenseRatio;
     this.purchasePrice = builder.purchasePrice;
     this.acquiredAt = builder.acquiredAt;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -146,7 +146,7 @@ public final class ETFAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
@@ -20,7 +20,7 @@ public final class FranchiseRightAsset implements IAsset {
   private final Instant contractEnd;
   private final Boolean renewable;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<FranchiseRightAsset> valuation;
   private final Instant createdAt;
 
@@ -36,7 +36,7 @@ public final class FranchiseRightAsset implements IAsset {
     this.contractEnd = builder.contractEnd;
     this.renewable = builder.renewable;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -160,7 +160,7 @@ public final class FranchiseRightAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
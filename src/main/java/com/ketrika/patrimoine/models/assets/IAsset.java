@@ -32,7 +32,8 @@ public interface IAsset {
   }
 
   /**
-   * Arbitrary tags for filtering or grouping (e.g. ["liquid", "risky"]).
+   * Arbitrary tags for filtering or grouping (e.g. ["liquid", "risky"]). Built-in assets hold them
+   * as a shared {@link TagSet}.
    *
    * @return list of tags, empty list by default
    */
@@ -14,4 +14,13 @@ public interface IValuation<T extends IAsset> {
    * @return calculated value
    */
   BigDecimal calculate(T asset);
+
+  /**
+   * Returns this valuation caching its result until the {@link ValuationEpoch} is bumped.
+   *
+   * @return the memoizing valuation
+   */
+  default IValuation<T> memoized() {
+    return MemoizedValuation.of(this);
+  }
 }
@@ -20,7 +20,7 @@ public final class LandParcelAsset implements IAsset {
   private final BigDecimal purchasePrice;
   private final Instant acquiredAt;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<LandParcelAsset> valuation;
   private final Instant createdAt;
 
@@ -36,7 +36,7 @@ public final class LandParcelAsset implements IAsset {
     this.purchasePrice = builder.purchasePrice;
     this.acquiredAt = builder.acquiredAt;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -160,7 +160,7 @@ public final class LandParcelAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
@@ -18,7 +18,7 @@ public final class LifeInsuranceAsset implements IAsset {
   private final String beneficiaryName;
   private final String issuer;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<LifeInsuranceAsset> valuation;
   private final Instant createdAt;
 
@@ -32,7 +32,7 @@ public final class LifeInsuranceAsset implements IAsset {
     this.beneficiaryName = builder.beneficiaryName;
     this.issuer = builder.issuer;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -136,7 +136,7 @@ public final class LifeInsuranceAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
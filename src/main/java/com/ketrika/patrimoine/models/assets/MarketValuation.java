@@ -0,0 +1,55 @@
+package com.ketrika.patrimoine.models.assets;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import com.ketrika.patrimoine.models.prices.IPriceProvider;
+import com.ketrika.patrimoine.models.prices.Price;
+
+/**
+ * Valuation strategy for quoted assets, calculated as quantity × current market price.
+ * <p>
+ * Unlike {@link MultiplicativeValuation}, the unit price is looked up in an {@link IPriceProvider}
+ * on every calculation, so a price refresh revalues the asset without rebuilding it.
+ *
+ * @param <T> type of asset
+ */
+public final class MarketValuation<T extends IAsset> implements IValuation<T> {
+
+  private final IPriceProvider prices;
+  private final String symbol;
+  private final BigDecimal fallbackPrice;
+  private final ToDoubleFunction<T> quantityExtractor;
+
+  /**
+   * @param prices provider of the unit price
+   * @param symbol symbol or ticker of the asset
+   * @param fallbackPrice price per unit used while the symbol is not quoted, or {@code null}
+   * @param quantityExtractor function to extract quantity from the asset
+   */
+  public MarketValuation(IPriceProvider prices, String symbol, BigDecimal fallbackPrice,
+      ToDoubleFunction<T> quantityExtractor) {
+    this.prices = Objects.requireNonNull(prices, "prices cannot be null");
+    this.symbol = Objects.requireNonNull(symbol, "symbol cannot be null");
+    this.fallbackPrice = fallbackPrice;
+    this.quantityExtractor = Objects.requireNonNull(quantityExtractor, "quantityExtractor cannot be null");
+  }
+
+  /**
+   * @throws IllegalStateException if the symbol is not quoted and there is no fallback price
+   */
+  @Override
+  public BigDecimal calculate(T asset) {
+    Price price = prices.find(symbol);
+    BigDecimal unitPrice = price != null ? price.value() : fallbackPrice;
+    if (unitPrice == null) {
+      throw new IllegalStateException("No market price for " + symbol);
+    }
+    double quantity = quantityExtractor.applyAsDouble(asset);
+    return unitPrice.multiply(BigDecimal.valueOf(quantity));
+  }
+
+  public String getSymbol() {
+    return symbol;
+  }
+}
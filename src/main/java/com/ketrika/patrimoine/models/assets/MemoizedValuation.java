@@ -0,0 +1,54 @@
+package com.ketrika.patrimoine.models.assets;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Valuation caching the result of another valuation until the {@link ValuationEpoch} changes.
+ * <p>
+ * A repeated {@link #calculate(IAsset)} for the same asset within one epoch is a single field load.
+ * The cached value is recomputed when the epoch has been bumped, or when the valuation is shared and
+ * asked for another asset.
+ *
+ * @param <T> type of asset
+ */
+public final class MemoizedValuation<T extends IAsset> implements IValuation<T> {
+
+  private record Cached(IAsset asset, long epoch, BigDecimal value) {}
+
+  private final IValuation<T> delegate;
+  private volatile Cached cached;
+
+  private MemoizedValuation(IValuation<T> delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+  }
+
+  /**
+   * Wraps a valuation, unless it is already memoized or a {@link FixedValuation}, which is already a
+   * field load.
+   *
+   * @param <T> type of asset
+   * @param valuation the valuation to memoize
+   * @return the memoizing valuation
+   */
+  public static <T extends IAsset> IValuation<T> of(IValuation<T> valuation) {
+    if (valuation instanceof MemoizedValuation<T> || valuation instanceof FixedValuation<T>) {
+      return valuation;
+    }
+    return new MemoizedValuation<>(valuation);
+  }
+
+  @Override
+  public BigDecimal calculate(T asset) {
+    // Read the epoch first: a bump during the computation leaves a stale entry, never a wrong hit
+    long epoch = ValuationEpoch.current();
+    Cached entry = cached;
+    if (entry != null && entry.epoch() == epoch && entry.asset() == asset) {
+      return entry.value();
+    }
+
+    BigDecimal value = delegate.calculate(asset);
+    cached = new Cached(asset, epoch, value);
+    return value;
+  }
+}
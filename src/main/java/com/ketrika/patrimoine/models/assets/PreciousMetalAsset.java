@@ -15,7 +15,7 @@ public final class PreciousMetalAsset implements IAsset {
   private final BigDecimal weightInGrams;
   private final IValuation<PreciousMetalAsset> valuation;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final Instant createdAt;
 
   private PreciousMetalAsset(Builder builder) {
@@ -24,7 +24,7 @@ public final class PreciousMetalAsset implements IAsset {
     this.valuation = Objects.requireNonNull(builder.valuation);
 
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -88,7 +88,7 @@ public final class PreciousMetalAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
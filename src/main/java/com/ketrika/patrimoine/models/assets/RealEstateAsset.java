@@ -18,7 +18,7 @@ public final class RealEstateAsset implements IAsset {
   private final BigDecimal buildingAreaSqM;
   private final int yearBuilt;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<RealEstateAsset> valuation;
   private final Instant createdAt;
 
@@ -32,7 +32,7 @@ public final class RealEstateAsset implements IAsset {
     this.buildingAreaSqM = builder.buildingAreaSqM;
     this.yearBuilt = builder.yearBuilt;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -136,7 +136,7 @@ public final class RealEstateAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
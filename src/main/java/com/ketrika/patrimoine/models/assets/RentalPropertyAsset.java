@@ -17,7 +17,7 @@ public final class RentalPropertyAsset implements IAsset {
   private final BigDecimal areaSqM;
   private final int yearBuilt;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<RentalPropertyAsset> valuation;
   private final Instant createdAt;
 
@@ -30,7 +30,7 @@ public final class RentalPropertyAsset implements IAsset {
     this.areaSqM = builder.areaSqM;
     this.yearBuilt = builder.yearBuilt;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -124,7 +124,7 @@ public final class RentalPropertyAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
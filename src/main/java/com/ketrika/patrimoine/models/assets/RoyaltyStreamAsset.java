@@ -16,7 +16,7 @@ public final class RoyaltyStreamAsset implements IAsset {
   private final int yearsRemaining;
   private final String royaltyType;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<RoyaltyStreamAsset> valuation;
   private final Instant createdAt;
 
@@ -28,7 +28,7 @@ public final class RoyaltyStreamAsset implements IAsset {
 
     this.royaltyType = builder.royaltyType;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -112,7 +112,7 @@ public final class RoyaltyStreamAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
@@ -17,7 +17,7 @@ public final class SavingsAccountAsset implements IAsset {
   private final BigDecimal interestRateAnnual;
   private final BigDecimal balance;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<SavingsAccountAsset> valuation;
   private final Instant createdAt;
 
@@ -30,7 +30,7 @@ public final class SavingsAccountAsset implements IAsset {
     this.interestRateAnnual = builder.interestRateAnnual;
     this.balance = builder.balance;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -124,7 +124,7 @@ public final class SavingsAccountAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
@@ -0,0 +1,85 @@
+package com.ketrika.patrimoine.models.assets;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global dictionary of asset tags, interning each distinct tag to a small dense id.
+ * <p>
+ * Ids are given in order of first use, from 0, and never change. Assets keep their tags as a
+ * {@link TagSet} of ids, so a tag shared by millions of assets is held once. Looking a known tag
+ * up takes no lock; only a new tag is added under the lock.
+ */
+public final class TagDictionary {
+
+  private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+  private static final Object LOCK = new Object();
+
+  // Written under LOCK, each new name being published by the volatile write of the array
+  private static volatile String[] names = new String[64];
+  private static int count;
+
+  private TagDictionary() {
+    // utility class
+  }
+
+  /**
+   * Returns the id of a tag, interning it on first use.
+   *
+   * @param tag the tag
+   * @return its id
+   * @throws NullPointerException if the tag is null
+   */
+  public static int id(String tag) {
+    Integer id = IDS.get(Objects.requireNonNull(tag, "tag cannot be null"));
+    if (id != null) {
+      return id;
+    }
+    synchronized (LOCK) {
+      id = IDS.get(tag);
+      if (id == null) {
+        String[] next = count < names.length ? names : Arrays.copyOf(names, count * 2);
+        next[count] = tag;
+        names = next;
+        id = count++;
+        IDS.put(tag, id);
+      }
+      return id;
+    }
+  }
+
+  /**
+   * Returns the id of a tag without interning it, e.g. to look up a tag in a query.
+   *
+   * @param tag the tag
+   * @return its id, or empty if no asset ever carried it
+   */
+  public static OptionalInt find(String tag) {
+    Integer id = tag == null ? null : IDS.get(tag);
+    return id == null ? OptionalInt.empty() : OptionalInt.of(id);
+  }
+
+  /**
+   * @param id a tag id
+   * @return the tag
+   * @throws IndexOutOfBoundsException if no tag has this id
+   */
+  public static String name(int id) {
+    String[] current = names;
+    String name = id >= 0 && id < current.length ? current[id] : null;
+    if (name == null) {
+      throw new IndexOutOfBoundsException("Unknown tag id: " + id);
+    }
+    return name;
+  }
+
+  /**
+   * @return the number of distinct tags interned so far
+   */
+  public static int size() {
+    return IDS.size();
+  }
+}
@@ -0,0 +1,137 @@
+package com.ketrika.patrimoine.models.assets;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable set of asset tags, held as the sorted {@link TagDictionary} ids of its tags.
+ * <p>
+ * Reads as an unmodifiable list of the tag names, in id order and without duplicates. Sets are
+ * shared: assets carrying the same tags share one instance, so a tagged asset costs a single
+ * reference.
+ */
+public final class TagSet extends AbstractList<String> implements RandomAccess {
+
+  /** Past this many distinct combinations, new sets are no longer shared. */
+  private static final int MAX_SHARED = 1 << 12;
+
+  private static final Map<TagSet, TagSet> SHARED = new ConcurrentHashMap<>();
+
+  public static final TagSet EMPTY = new TagSet(new int[0]);
+
+  private final int[] ids;
+  private int hash;
+
+  private TagSet(int[] ids) {
+    this.ids = ids;
+  }
+
+  /**
+   * Interns the given tags and returns the shared set holding them.
+   *
+   * @param tags the tags (may be {@code null})
+   * @return the set, {@link #EMPTY} if there are no tags
+   * @throws NullPointerException if a tag is null
+   */
+  public static TagSet of(Collection<String> tags) {
+    if (tags == null || tags.isEmpty()) {
+      return EMPTY;
+    }
+    int[] ids = new int[tags.size()];
+    int n = 0;
+    for (String tag : tags) {
+      ids[n++] = TagDictionary.id(tag);
+    }
+    Arrays.sort(ids);
+    int distinct = 1;
+    for (int i = 1; i < n; i++) {
+      if (ids[i] != ids[distinct - 1]) {
+        ids[distinct++] = ids[i];
+      }
+    }
+    TagSet set = new TagSet(distinct == n ? ids : Arrays.copyOf(ids, distinct));
+    TagSet shared = SHARED.get(set);
+    if (shared != null) {
+      return shared;
+    }
+    if (SHARED.size() >= MAX_SHARED) {
+      return set;
+    }
+    shared = SHARED.putIfAbsent(set, set);
+    return shared != null ? shared : set;
+  }
+
+  /**
+   * @param index position in the set
+   * @return the tag id at that position
+   */
+  public int id(int index) {
+    return ids[index];
+  }
+
+  /**
+   * @param id a tag id
+   * @return whether the set holds that tag
+   */
+  public boolean containsId(int id) {
+    return Arrays.binarySearch(ids, id) >= 0;
+  }
+
+  @Override
+  public String get(int index) {
+    return TagDictionary.name(ids[index]);
+  }
+
+  @Override
+  public int size() {
+    return ids.length;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof String tag)) {
+      return false;
+    }
+    OptionalInt id = TagDictionary.find(tag);
+    return id.isPresent() && containsId(id.getAsInt());
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (!(o instanceof String tag)) {
+      return -1;
+    }
+    OptionalInt id = TagDictionary.find(tag);
+    int index = id.isPresent() ? Arrays.binarySearch(ids, id.getAsInt()) : -1;
+    return Math.max(index, -1);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return indexOf(o);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof TagSet other) {
+      return Arrays.equals(ids, other.ids);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    // List contract, cached as the set is immutable
+    int h = hash;
+    if (h == 0 && ids.length > 0) {
+      h = super.hashCode();
+      hash = h;
+    }
+    return h;
+  }
+}
@@ -15,7 +15,7 @@ public final class TrustBeneficiaryAsset implements IAsset {
   private final BigDecimal expectedPayout;
   private final int yearsUntilDistribution;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
   private final IValuation<TrustBeneficiaryAsset> valuation;
   private final Instant createdAt;
 
@@ -26,7 +26,7 @@ public final class TrustBeneficiaryAsset implements IAsset {
     this.valuation = Objects.requireNonNull(builder.valuation);
 
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -100,7 +100,7 @@ public final class TrustBeneficiaryAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
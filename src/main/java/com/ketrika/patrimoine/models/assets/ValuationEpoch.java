@@ -0,0 +1,34 @@
+package com.ketrika.patrimoine.models.assets;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version of the inputs of every valuation (market prices, rates...).
+ * <p>
+ * {@link MemoizedValuation} caches a value together with the epoch it was computed in; bumping the
+ * epoch invalidates every cached value at once, without visiting the assets.
+ */
+public final class ValuationEpoch {
+
+  private static final AtomicLong EPOCH = new AtomicLong();
+
+  private ValuationEpoch() {
+    // utility class
+  }
+
+  /**
+   * @return the current epoch
+   */
+  public static long current() {
+    return EPOCH.get();
+  }
+
+  /**
+   * Invalidates every memoized valuation, e.g. after a market price refresh.
+   *
+   * @return the new epoch
+   */
+  public static long bump() {
+    return EPOCH.incrementAndGet();
+  }
+}
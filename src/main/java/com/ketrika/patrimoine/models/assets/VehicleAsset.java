@@ -28,7 +28,7 @@ public final class VehicleAsset implements IAsset {
   private final long odometerKm;
   private final String usageType;
   private final Currency currency;
-  private final List<String> tags;
+  private final TagSet tags;
 
   private VehicleAsset(Builder builder) {
     this.name = Objects.requireNonNull(builder.name);
@@ -48,7 +48,7 @@ public final class VehicleAsset implements IAsset {
     this.odometerKm = builder.odometerKm;
     this.usageType = builder.usageType;
     this.currency = builder.currency;
-    this.tags = builder.tags != null ? List.copyOf(builder.tags) : null;
+    this.tags = TagSet.of(builder.tags);
 
     this.createdAt = Instant.now();
   }
@@ -232,7 +232,7 @@ public final class VehicleAsset implements IAsset {
 
   @Override
   public List<String> tags() {
-    return tags != null ? tags : IAsset.super.tags();
+    return tags;
   }
 
   @Override
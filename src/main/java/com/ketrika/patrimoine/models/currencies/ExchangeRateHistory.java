@@ -0,0 +1,200 @@
+package com.ketrika.patrimoine.models.currencies;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Immutable history of exchange rates, for conversions as of a past date.
+ * <p>
+ * Each currency pair holds its rates in sorted primitive arrays: the epoch days, and each rate as
+ * an unscaled {@code long} with its own scale, so that small rates (e.g. MGA to EUR) keep all their
+ * significant digits. The rate as of a date is the latest one on or before it, found by binary
+ * search. A pair without history of its own is read from the inverse pair.
+ */
+public final class ExchangeRateHistory {
+
+  /** Significant digits of the stored rates; longer rates are rounded half-up. */
+  public static final int RATE_PRECISION = 18;
+  private static final MathContext RATE_CONTEXT = new MathContext(RATE_PRECISION,
+      RoundingMode.HALF_UP);
+  private static final MathContext INVERSE = MathContext.DECIMAL128;
+
+  private final Map<Currency, Map<Currency, Series>> series;
+
+  private ExchangeRateHistory(Builder builder) {
+    Map<Currency, Map<Currency, Series>> bySource = new HashMap<>();
+    builder.points.forEach((from, targets) -> {
+      Map<Currency, Series> byTarget = new HashMap<>();
+      targets.forEach((to, points) -> byTarget.put(to, new Series(points)));
+      bySource.put(from, Map.copyOf(byTarget));
+    });
+    this.series = Map.copyOf(bySource);
+  }
+
+  /**
+   * Returns the rate in force on a date.
+   *
+   * @param from source currency
+   * @param to target currency
+   * @param date the date
+   * @return the latest rate on or before the date, defined as: 1 {@code from} = {@code rate}
+   *         {@code to}; empty if there is none
+   */
+  public Optional<BigDecimal> rate(Currency from, Currency to, LocalDate date) {
+    return Optional.ofNullable(find(from, to, date.toEpochDay()));
+  }
+
+  /**
+   * Converts an amount as of a date, rounded half-up to the fraction digits of the target currency.
+   *
+   * @param amount non-null amount
+   * @param from source currency
+   * @param to target currency
+   * @param date the date of the rate
+   * @return converted amount
+   * @throws IllegalArgumentException if no rate is known on or before the date
+   */
+  public BigDecimal convert(BigDecimal amount, Currency from, Currency to, LocalDate date) {
+    Objects.requireNonNull(amount, "amount must not be null");
+    if (from.equals(to)) {
+      return amount;
+    }
+    return amount.multiply(required(from, to, date)).setScale(scale(to), RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Converts many amounts as of one date: the rate is looked up once for the whole batch.
+   *
+   * @param amounts non-null amounts
+   * @param from source currency
+   * @param to target currency
+   * @param date the date of the rate
+   * @param results receives the converted amounts, at the same indexes; may be {@code amounts}
+   * @throws IllegalArgumentException if no rate is known on or before the date, or if
+   *         {@code results} is shorter than {@code amounts}
+   */
+  public void convert(BigDecimal[] amounts, Currency from, Currency to, LocalDate date,
+      BigDecimal[] results) {
+    Objects.requireNonNull(amounts, "amounts must not be null");
+    Objects.requireNonNull(results, "results must not be null");
+    if (results.length < amounts.length) {
+      throw new IllegalArgumentException("results is shorter than amounts");
+    }
+    if (from.equals(to)) {
+      System.arraycopy(amounts, 0, results, 0, amounts.length);
+      return;
+    }
+    BigDecimal rate = required(from, to, date);
+    int scale = scale(to);
+    for (int i = 0; i < amounts.length; i++) {
+      results[i] = amounts[i].multiply(rate).setScale(scale, RoundingMode.HALF_UP);
+    }
+  }
+
+  private BigDecimal required(Currency from, Currency to, LocalDate date) {
+    BigDecimal rate = find(from, to, date.toEpochDay());
+    if (rate == null) {
+      throw new IllegalArgumentException("Missing exchange rate for " + from.getCurrencyCode()
+          + "->" + to.getCurrencyCode() + " on " + date);
+    }
+    return rate;
+  }
+
+  private BigDecimal find(Currency from, Currency to, long epochDay) {
+    if (from.equals(to)) {
+      return BigDecimal.ONE;
+    }
+    Series direct = series(from, to);
+    BigDecimal rate = direct != null ? direct.asOf(epochDay) : null;
+    if (rate != null) {
+      return rate;
+    }
+    // The inverse pair may go back further than the direct one
+    Series inverse = series(to, from);
+    rate = inverse != null ? inverse.asOf(epochDay) : null;
+    return rate != null ? BigDecimal.ONE.divide(rate, INVERSE) : null;
+  }
+
+  private Series series(Currency from, Currency to) {
+    Map<Currency, Series> targets = series.get(from);
+    return targets != null ? targets.get(to) : null;
+  }
+
+  private static int scale(Currency currency) {
+    return Math.max(0, currency.getDefaultFractionDigits());
+  }
+
+  /**
+   * Rates of one pair, sorted by day.
+   */
+  private static final class Series {
+    private final long[] days;
+    private final long[] rates;
+    private final int[] scales;
+
+    Series(TreeMap<Long, BigDecimal> points) {
+      this.days = new long[points.size()];
+      this.rates = new long[points.size()];
+      this.scales = new int[points.size()];
+      int i = 0;
+      for (var point : points.entrySet()) {
+        days[i] = point.getKey();
+        rates[i] = point.getValue().unscaledValue().longValueExact();
+        scales[i] = point.getValue().scale();
+        i++;
+      }
+    }
+
+    BigDecimal asOf(long epochDay) {
+      int index = Arrays.binarySearch(days, epochDay);
+      if (index < 0) {
+        // Insertion point minus one: the latest day before
+        index = -index - 2;
+      }
+      return index >= 0 ? BigDecimal.valueOf(rates[index], scales[index]) : null;
+    }
+  }
+
+  /**
+   * Collects dated rates, in any order; a later rate for the same pair and day replaces the
+   * earlier one.
+   */
+  public static class Builder {
+    private final Map<Currency, Map<Currency, TreeMap<Long, BigDecimal>>> points = new HashMap<>();
+
+    /**
+     * @param from source currency
+     * @param to target currency
+     * @param date first day the rate is in force
+     * @param rate exchange rate defined as: 1 {@code from} = {@code rate} {@code to}
+     * @throws IllegalArgumentException if rate is <= 0
+     */
+    public Builder rate(Currency from, Currency to, LocalDate date, BigDecimal rate) {
+      Objects.requireNonNull(from, "source currency must not be null");
+      Objects.requireNonNull(to, "target currency must not be null");
+      Objects.requireNonNull(date, "date must not be null");
+      Objects.requireNonNull(rate, "rate must not be null");
+      if (rate.signum() <= 0) {
+        throw new IllegalArgumentException("Exchange rate must be greater than zero.");
+      }
+      // At most 18 digits: the unscaled value fits in a long
+      points.computeIfAbsent(from, c -> new HashMap<>())
+          .computeIfAbsent(to, c -> new TreeMap<>())
+          .put(date.toEpochDay(), rate.round(RATE_CONTEXT));
+      return this;
+    }
+
+    public ExchangeRateHistory build() {
+      return new ExchangeRateHistory(this);
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package com.ketrika.patrimoine.models.currencies;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable table of the exchange rates between a set of currencies.
+ * <p>
+ * Every rate is resolved when the matrix is built: inverse rates are derived from direct ones, and
+ * a pair without either is triangulated through the base currency. Each currency gets an ordinal,
+ * found through a dense table indexed by its three-letter code, so a conversion is two array
+ * lookups and a multiplication, without any key to build.
+ */
+public final class ExchangeRateMatrix {
+
+  /** Precision of derived (inverse or triangulated) rates. */
+  private static final MathContext DERIVED = MathContext.DECIMAL128;
+  private static final int CODES = 26 * 26 * 26;
+
+  private final Currency base;
+  private final Currency[] currencies;
+  // Ordinal of each currency by code index, -1 if absent
+  private final short[] ordinals;
+  // rates[from][to]: 1 from = rate to, null if unknown
+  private final BigDecimal[][] rates;
+
+  private ExchangeRateMatrix(Builder builder) {
+    this.base = Objects.requireNonNull(builder.base, "base currency cannot be null");
+    List<Currency> known = new ArrayList<>();
+    known.add(base);
+    builder.rates.keySet().forEach(pair -> {
+      addIfAbsent(known, pair.from());
+      addIfAbsent(known, pair.to());
+    });
+    if (known.size() > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many currencies: " + known.size());
+    }
+
+    this.currencies = known.toArray(new Currency[0]);
+    this.ordinals = new short[CODES];
+    Arrays.fill(ordinals, (short) -1);
+    for (short i = 0; i < currencies.length; i++) {
+      ordinals[codeIndex(currencies[i])] = i;
+    }
+
+    int n = currencies.length;
+    this.rates = new BigDecimal[n][n];
+    for (int i = 0; i < n; i++) {
+      rates[i][i] = BigDecimal.ONE;
+    }
+    builder.rates.forEach((pair, rate) -> rates[ordinal(pair.from())][ordinal(pair.to())] = rate);
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        if (rates[i][j] == null && rates[j][i] != null) {
+          rates[i][j] = BigDecimal.ONE.divide(rates[j][i], DERIVED);
+        }
+      }
+    }
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        if (rates[i][j] == null && rates[i][0] != null && rates[0][j] != null) {
+          rates[i][j] = rates[i][0].multiply(rates[0][j], DERIVED);
+        }
+      }
+    }
+  }
+
+  private static void addIfAbsent(List<Currency> currencies, Currency currency) {
+    if (!currencies.contains(currency)) {
+      currencies.add(currency);
+    }
+  }
+
+  private static int codeIndex(Currency currency) {
+    String code = currency.getCurrencyCode();
+    return ((code.charAt(0) - 'A') * 26 + (code.charAt(1) - 'A')) * 26 + (code.charAt(2) - 'A');
+  }
+
+  private int ordinal(Currency currency) {
+    return ordinals[codeIndex(currency)];
+  }
+
+  public Currency getBase() {
+    return base;
+  }
+
+  /**
+   * @param from source currency
+   * @param to target currency
+   * @return whether a rate is known, directly or through the base currency
+   */
+  public boolean supports(Currency from, Currency to) {
+    int i = ordinal(from);
+    int j = ordinal(to);
+    return i >= 0 && j >= 0 && rates[i][j] != null;
+  }
+
+  /**
+   * Returns the rate from one currency to another.
+   *
+   * @param from source currency
+   * @param to target currency
+   * @return the rate, defined as: 1 {@code from} = {@code rate} {@code to}
+   * @throws IllegalArgumentException if the rate is not known
+   */
+  public BigDecimal rate(Currency from, Currency to) {
+    int i = ordinal(from);
+    int j = ordinal(to);
+    BigDecimal rate = i >= 0 && j >= 0 ? rates[i][j] : null;
+    if (rate == null) {
+      throw new IllegalArgumentException(
+          "Missing exchange rate for " + from.getCurrencyCode() + "->" + to.getCurrencyCode());
+    }
+    return rate;
+  }
+
+  /**
+   * Converts an amount, rounded half-up to the fraction digits of the target currency.
+   *
+   * @param amount non-null amount
+   * @param from source currency
+   * @param to target currency
+   * @return the converted amount
+   * @throws IllegalArgumentException if the rate is not known
+   */
+  public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+    if (from.equals(to)) {
+      return amount;
+    }
+    return amount.multiply(rate(from, to))
+        .setScale(Math.max(0, to.getDefaultFractionDigits()), RoundingMode.HALF_UP);
+  }
+
+  private record Pair(Currency from, Currency to) {}
+
+  /**
+   * Collects the known rates; a rate given in both directions is taken as is each way.
+   */
+  public static class Builder {
+    private Currency base;
+    private final Map<Pair, BigDecimal> rates = new LinkedHashMap<>();
+
+    /**
+     * @param base currency through which missing pairs are triangulated
+     */
+    public Builder base(Currency base) {
+      this.base = base;
+      return this;
+    }
+
+    /**
+     * @param from source currency
+     * @param to target currency
+     * @param rate exchange rate defined as: 1 {@code from} = {@code rate} {@code to}
+     * @throws IllegalArgumentException if rate is <= 0
+     */
+    public Builder rate(Currency from, Currency to, BigDecimal rate) {
+      Objects.requireNonNull(from, "source currency must not be null");
+      Objects.requireNonNull(to, "target currency must not be null");
+      Objects.requireNonNull(rate, "rate must not be null");
+      if (rate.signum() <= 0) {
+        throw new IllegalArgumentException("Exchange rate must be greater than zero.");
+      }
+      rates.put(new Pair(from, to), rate);
+      return this;
+    }
+
+    public ExchangeRateMatrix build() {
+      return new ExchangeRateMatrix(this);
+    }
+  }
+}
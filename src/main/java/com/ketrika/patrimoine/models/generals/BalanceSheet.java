@@ -0,0 +1,44 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Financial totals of a person.
+ *
+ * @param assets total value of the assets
+ * @param liabilities total outstanding amount of the liabilities
+ * @param assetCount number of assets
+ * @param liabilityCount number of liabilities
+ */
+public record BalanceSheet(BigDecimal assets, BigDecimal liabilities, int assetCount,
+    int liabilityCount) {
+
+  public BalanceSheet {
+    Objects.requireNonNull(assets, "assets cannot be null");
+    Objects.requireNonNull(liabilities, "liabilities cannot be null");
+  }
+
+  /**
+   * @param value value of an additional asset
+   * @return the totals including that asset
+   */
+  public BalanceSheet plusAsset(BigDecimal value) {
+    return new BalanceSheet(assets.add(value), liabilities, assetCount + 1, liabilityCount);
+  }
+
+  /**
+   * @param amount outstanding amount of an additional liability
+   * @return the totals including that liability
+   */
+  public BalanceSheet plusLiability(BigDecimal amount) {
+    return new BalanceSheet(assets, liabilities.add(amount), assetCount, liabilityCount + 1);
+  }
+
+  /**
+   * @return assets minus liabilities
+   */
+  public BigDecimal netWorth() {
+    return assets.subtract(liabilities);
+  }
+}
@@ -0,0 +1,42 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+
+/**
+ * Computes every total of a person in a single pass over its assets and liabilities.
+ * <p>
+ * As an {@link IFinancialCalculation} it returns the net worth; {@link #evaluate(Person)} returns
+ * all the totals at once, for reports that need more than one of them.
+ */
+public final class BalanceSheetCalculation implements IFinancialCalculation {
+
+  static final BalanceSheetCalculation INSTANCE = new BalanceSheetCalculation();
+
+  /**
+   * Computes the totals of a person.
+   *
+   * @param person the person whose financial data is being evaluated
+   * @return the totals
+   */
+  public BalanceSheet evaluate(Person person) {
+    var assets = person.getAssets();
+    var liabilities = person.getLiabilities();
+
+    BigDecimal assetTotal = BigDecimal.ZERO;
+    for (IAsset asset : assets) {
+      assetTotal = assetTotal.add(asset.value());
+    }
+    BigDecimal liabilityTotal = BigDecimal.ZERO;
+    for (ILiability liability : liabilities) {
+      liabilityTotal = liabilityTotal.add(liability.amount());
+    }
+    return new BalanceSheet(assetTotal, liabilityTotal, assets.size(), liabilities.size());
+  }
+
+  @Override
+  public BigDecimal calculate(Person person) {
+    return evaluate(person).netWorth();
+  }
+}
@@ -0,0 +1,41 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+import com.ketrika.patrimoine.models.assets.IAsset;
+
+/**
+ * Calculates assets for a person like {@link AssetsCalculation}, summing in fixed-point minor units
+ * instead of allocating a {@link BigDecimal} per asset.
+ * <p>
+ * The total is numerically equal to the one of {@link AssetsCalculation}; amounts with more
+ * fraction digits than the currency are still summed exactly, through {@link FixedPointSum}.
+ */
+public final class FixedPointAssetsCalculation implements IFinancialCalculation {
+
+  private final Currency currency;
+
+  /**
+   * Sums at the scale of the default asset currency.
+   */
+  public FixedPointAssetsCalculation() {
+    this(Currency.getInstance("MGA"));
+  }
+
+  /**
+   * @param currency the currency whose scale the values are summed at
+   */
+  public FixedPointAssetsCalculation(Currency currency) {
+    this.currency = Objects.requireNonNull(currency, "currency cannot be null");
+  }
+
+  @Override
+  public BigDecimal calculate(Person person) {
+    var sum = new FixedPointSum(currency);
+    for (IAsset asset : person.getAssets()) {
+      sum.add(asset.value());
+    }
+    return sum.total();
+  }
+}
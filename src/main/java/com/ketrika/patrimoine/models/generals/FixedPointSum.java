@@ -0,0 +1,57 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Sum of amounts accumulated in {@code long} minor units of a currency.
+ * <p>
+ * An amount that {@linkplain Money#fitsMinorUnits fits} the scale of the currency is added in
+ * minor units, without allocating when {@link Money#toMinorUnits} does not. Any other amount, or
+ * one that would overflow the running total, is added to a {@link BigDecimal} remainder instead,
+ * so a single odd amount does not slow down the rest of the sum and the total is always exactly
+ * the {@link BigDecimal} sum. Not thread-safe: use one sum per thread.
+ */
+public final class FixedPointSum {
+
+  private final int scale;
+  private long minorUnits;
+  // Exact sum of the amounts not added in minor units, null while there are none
+  private BigDecimal remainder;
+
+  /**
+   * @param currency the currency whose scale the amounts are summed at
+   */
+  public FixedPointSum(Currency currency) {
+    this.scale = Money.scale(currency);
+  }
+
+  public FixedPointSum add(BigDecimal amount) {
+    if (Money.fitsMinorUnits(amount, scale)) {
+      long units = Money.toMinorUnits(amount, scale);
+      long sum = minorUnits + units;
+      if (((minorUnits ^ sum) & (units ^ sum)) >= 0) {
+        // No overflow
+        minorUnits = sum;
+        return this;
+      }
+    }
+    remainder = remainder == null ? amount : remainder.add(amount);
+    return this;
+  }
+
+  /**
+   * @return the total, with the scale of the currency unless an amount did not fit
+   */
+  public BigDecimal total() {
+    BigDecimal total = BigDecimal.valueOf(minorUnits, scale);
+    return remainder != null ? total.add(remainder) : total;
+  }
+
+  /**
+   * @return whether every amount was summed in minor units
+   */
+  public boolean isFixedPoint() {
+    return remainder == null;
+  }
+}
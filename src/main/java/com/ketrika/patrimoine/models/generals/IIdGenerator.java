@@ -0,0 +1,48 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Strategy generating the identifiers of new persons.
+ */
+@FunctionalInterface
+public interface IIdGenerator {
+
+  /**
+   * @return a new unique identifier
+   */
+  String nextId();
+
+  /**
+   * Returns the default generator: time-ordered UUIDs (version 7 layout), whose string form sorts
+   * by creation time. Fast, but predictable; use {@link #random()} for unguessable identifiers.
+   *
+   * @return the time-ordered generator
+   */
+  static IIdGenerator timeOrdered() {
+    return TimeOrderedIdGenerator.INSTANCE;
+  }
+
+  /**
+   * Returns a generator of random UUIDs drawn from {@link java.security.SecureRandom}.
+   *
+   * @return the cryptographically random generator
+   */
+  static IIdGenerator random() {
+    return () -> UUID.randomUUID().toString();
+  }
+
+  /**
+   * Derives a deterministic identifier from content, so that importing the same record twice
+   * yields the same identifier.
+   *
+   * @param content the content identifying the entity
+   * @return a name-based UUID (version 3)
+   */
+  static String nameBased(String content) {
+    Objects.requireNonNull(content, "content cannot be null");
+    return UUID.nameUUIDFromBytes(content.getBytes(StandardCharsets.UTF_8)).toString();
+  }
+}
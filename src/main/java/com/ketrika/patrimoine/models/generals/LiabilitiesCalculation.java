@@ -0,0 +1,17 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+
+/**
+ * Calculates liabilities for a person.
+ */
+public final class LiabilitiesCalculation implements IFinancialCalculation {
+
+  @Override
+  public BigDecimal calculate(Person person) {
+    return person.getLiabilities().stream()
+        .map(ILiability::amount)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+  }
+}
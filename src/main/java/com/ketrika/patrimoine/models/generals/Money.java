@@ -0,0 +1,159 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Fixed-point monetary amount: a count of minor units (cents...) of a currency.
+ * <p>
+ * The scale is the {@linkplain Currency#getDefaultFractionDigits() default fraction digits} of the
+ * currency, so adding amounts is plain {@code long} arithmetic. It is meant for hot aggregation
+ * paths: amounts are converted from and back to {@link BigDecimal} at the edges, exactly, and every
+ * operation fails with an {@link ArithmeticException} rather than overflowing or rounding.
+ *
+ * @param minorUnits amount in minor units of the currency
+ * @param currency the currency
+ */
+public record Money(long minorUnits, Currency currency) {
+
+  private static final int MAX_SCALE = 18;
+  // Significant digits of an unscaled value below 2^53, exact as a double
+  private static final int MAX_DOUBLE_DIGITS = 15;
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i <= MAX_SCALE; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  public Money {
+    Objects.requireNonNull(currency, "currency cannot be null");
+  }
+
+  /**
+   * Converts an amount to minor units of a currency.
+   *
+   * @param amount the amount
+   * @param currency the currency
+   * @return the money
+   * @throws ArithmeticException if the amount has more fraction digits than the currency or does
+   *         not fit in a {@code long}
+   */
+  public static Money of(BigDecimal amount, Currency currency) {
+    return new Money(toMinorUnits(amount, scale(currency)), currency);
+  }
+
+  public static Money zero(Currency currency) {
+    return new Money(0, currency);
+  }
+
+  /**
+   * Number of fraction digits of the minor unit of a currency; zero for currencies without one.
+   *
+   * @param currency the currency
+   * @return the scale
+   */
+  public static int scale(Currency currency) {
+    return Math.max(0, currency.getDefaultFractionDigits());
+  }
+
+  /**
+   * Converts an amount to a count of units of {@code 10^-scale}.
+   * <p>
+   * Allocates nothing when the amount has at most 15 significant digits and no more fraction
+   * digits than the scale, which covers everyday amounts; other amounts go through an intermediate
+   * {@link BigDecimal}.
+   *
+   * @param amount the amount
+   * @param scale number of fraction digits of a unit, 0 to 18
+   * @return the count of units
+   * @throws ArithmeticException if the amount has more fraction digits than the scale or does not
+   *         fit in a {@code long}
+   * @throws IllegalArgumentException if the scale is out of range
+   */
+  public static long toMinorUnits(BigDecimal amount, int scale) {
+    Objects.requireNonNull(amount, "amount cannot be null");
+    checkScale(scale);
+    int digits = amount.precision();
+    int fraction = amount.scale();
+    if (fraction == 0 && digits < 19 - scale) {
+      // Integral amount: its long value is exact
+      return Math.multiplyExact(amount.longValue(), POWERS_OF_TEN[scale]);
+    }
+    if (fraction > 0 && fraction <= scale && digits <= MAX_DOUBLE_DIGITS) {
+      // The unscaled value is below 2^53: doubleValue() divides it by 10^fraction with a single
+      // rounding, and multiplying back is off by less than 0.5, so rounding recovers it exactly
+      long unscaled = Math.round(amount.doubleValue() * POWERS_OF_TEN[fraction]);
+      return Math.multiplyExact(unscaled, POWERS_OF_TEN[scale - fraction]);
+    }
+    return amount.movePointRight(scale).longValueExact();
+  }
+
+  /**
+   * Tells, from its digits alone, whether an amount converts to units of {@code 10^-scale}.
+   * <p>
+   * When it returns {@code true}, {@link #toMinorUnits(BigDecimal, int)} cannot throw and returns
+   * less than {@code 10^18} in magnitude. It may return {@code false} for an amount whose extra
+   * fraction digits are trailing zeros, e.g. {@code 1.500} at scale 2.
+   *
+   * @param amount the amount
+   * @param scale number of fraction digits of a unit, 0 to 18
+   * @return whether the amount fits
+   * @throws IllegalArgumentException if the scale is out of range
+   */
+  public static boolean fitsMinorUnits(BigDecimal amount, int scale) {
+    checkScale(scale);
+    int fraction = amount.scale();
+    return fraction <= scale && amount.precision() - fraction + scale <= MAX_SCALE;
+  }
+
+  public Money plus(Money other) {
+    return new Money(Math.addExact(minorUnits, checkCurrency(other).minorUnits), currency);
+  }
+
+  public Money minus(Money other) {
+    return new Money(Math.subtractExact(minorUnits, checkCurrency(other).minorUnits), currency);
+  }
+
+  public Money times(long factor) {
+    return new Money(Math.multiplyExact(minorUnits, factor), currency);
+  }
+
+  public Money negate() {
+    return new Money(Math.negateExact(minorUnits), currency);
+  }
+
+  public int signum() {
+    return Long.signum(minorUnits);
+  }
+
+  /**
+   * @return the amount, with the scale of the currency
+   */
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(minorUnits, scale(currency));
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+  }
+
+  private static void checkScale(int scale) {
+    if (scale < 0 || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("scale must be between 0 and " + MAX_SCALE + ": " + scale);
+    }
+  }
+
+  private Money checkCurrency(Money other) {
+    if (!currency.equals(other.currency)) {
+      throw new IllegalArgumentException(
+          "Currency mismatch: " + currency.getCurrencyCode() + " and "
+              + other.currency.getCurrencyCode());
+    }
+    return other;
+  }
+}
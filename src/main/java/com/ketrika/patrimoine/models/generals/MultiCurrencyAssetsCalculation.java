@@ -0,0 +1,47 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.currencies.ExchangeRateMatrix;
+
+/**
+ * Calculates assets for a person in a reporting currency, converting each asset from its own
+ * {@linkplain IAsset#currency() currency}.
+ * <p>
+ * Converted values are summed unrounded; only the total is rounded half-up to the fraction digits
+ * of the reporting currency.
+ */
+public final class MultiCurrencyAssetsCalculation implements IFinancialCalculation {
+
+  private final ExchangeRateMatrix rates;
+  private final Currency reportingCurrency;
+
+  /**
+   * @param rates exchange rates between the asset currencies and the reporting currency
+   * @param reportingCurrency the currency of the total
+   */
+  public MultiCurrencyAssetsCalculation(ExchangeRateMatrix rates, Currency reportingCurrency) {
+    this.rates = Objects.requireNonNull(rates, "rates cannot be null");
+    this.reportingCurrency = Objects.requireNonNull(reportingCurrency, "reportingCurrency cannot be null");
+  }
+
+  /**
+   * @throws IllegalArgumentException if the rate of an asset currency is not known
+   */
+  @Override
+  public BigDecimal calculate(Person person) {
+    BigDecimal total = BigDecimal.ZERO;
+    for (IAsset asset : person.getAssets()) {
+      Currency currency = asset.currency();
+      BigDecimal value = asset.value();
+      total = total.add(currency.equals(reportingCurrency)
+          ? value
+          : value.multiply(rates.rate(currency, reportingCurrency)));
+    }
+    return total.setScale(Math.max(0, reportingCurrency.getDefaultFractionDigits()),
+        RoundingMode.HALF_UP);
+  }
+}
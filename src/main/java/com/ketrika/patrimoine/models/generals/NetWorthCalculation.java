@@ -0,0 +1,14 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+
+/**
+ * Calculates the net worth of a person: assets minus liabilities.
+ */
+public final class NetWorthCalculation implements IFinancialCalculation {
+
+  @Override
+  public BigDecimal calculate(Person person) {
+    return BalanceSheetCalculation.INSTANCE.evaluate(person).netWorth();
+  }
+}
@@ -2,23 +2,32 @@ package com.ketrika.patrimoine.models.generals;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.RandomAccess;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.ValuationEpoch;
 import com.ketrika.patrimoine.models.liabilities.ILiability;
 import com.ketrika.patrimoine.models.participations.IParticipation;
 
 /**
  * Represents a person with financial data including assets, liabilities, and participations.
+ * <p>
+ * Assets, liabilities and participations are held in immutable snapshots of arrays that grow by
+ * doubling: reading them never copies, and an add writes into spare capacity, copying the array
+ * only when it is full, so adding entries one by one costs amortized constant time. Importers fill
+ * a {@link Builder} instead, which copies each list once into an array of the exact size.
  */
 public final class Person {
 
+  private static volatile IIdGenerator idGenerator = IIdGenerator.timeOrdered();
+
   private final String id;
   private final String firstName;
   private final String lastName;
@@ -31,9 +40,19 @@ public final class Person {
   private final AtomicReference<Address> address = new AtomicReference<>();
   private final AtomicReference<Birth> birth = new AtomicReference<>();
 
-  private final List<IAsset> assets = new CopyOnWriteArrayList<>();
-  private final List<ILiability> liabilities = new CopyOnWriteArrayList<>();
-  private final List<IParticipation> participations = new CopyOnWriteArrayList<>();
+  // Immutable snapshots, replaced under lock
+  private volatile Snapshot<IAsset> assets;
+  private volatile Snapshot<ILiability> liabilities;
+  private volatile Snapshot<IParticipation> participations;
+
+  /**
+   * Running totals, kept from the first {@link #getBalanceSheet()} on and valid for one
+   * {@link ValuationEpoch}. Written under {@code lock} together with the lists they sum.
+   */
+  private record Totals(long epoch, BalanceSheet sheet) {}
+
+  private final Object lock = new Object();
+  private volatile Totals totals;
 
   /**
    * Constructs a new Person.
@@ -44,11 +63,38 @@ public final class Person {
    * @throws NullPointerException if any argument is null
    */
   public Person(String firstName, String lastName, EGender gender) {
-    this.id = UUID.randomUUID().toString();
+    this(idGenerator.nextId(), firstName, lastName, gender);
+  }
+
+  private Person(String id, String firstName, String lastName, EGender gender) {
+    this.id = Objects.requireNonNull(id, "id cannot be null");
     this.firstName = Objects.requireNonNull(firstName, "firstName cannot be null");
     this.lastName = Objects.requireNonNull(lastName, "lastName cannot be null");
     this.gender = Objects.requireNonNull(gender, "gender cannot be null");
     this.createdAt = Instant.now();
+    this.assets = Snapshot.empty();
+    this.liabilities = Snapshot.empty();
+    this.participations = Snapshot.empty();
+  }
+
+  private Person(Builder builder) {
+    this(builder.id != null ? builder.id : idGenerator.nextId(),
+        builder.firstName, builder.lastName, builder.gender);
+    this.contact.set(builder.contact);
+    this.address.set(builder.address);
+    this.birth.set(builder.birth);
+    this.assets = Snapshot.of(builder.assets);
+    this.liabilities = Snapshot.of(builder.liabilities);
+    this.participations = Snapshot.of(builder.participations);
+  }
+
+  /**
+   * Replaces the generator of the identifiers of the persons created from now on.
+   *
+   * @param generator the generator, {@link IIdGenerator#timeOrdered()} by default
+   */
+  public static void setIdGenerator(IIdGenerator generator) {
+    idGenerator = Objects.requireNonNull(generator, "generator cannot be null");
   }
 
   public String getId() {
@@ -64,48 +110,77 @@ public final class Person {
   }
 
   public void addAsset(IAsset asset) {
-    assets.add(Objects.requireNonNull(asset, "asset cannot be null"));
+    addAssets(List.of(Objects.requireNonNull(asset, "asset cannot be null")));
   }
 
   public void addAssets(Collection<? extends IAsset> assets) {
-    Objects.requireNonNull(assets, "assets cannot be null");
-    for (IAsset a : assets) {
-      addAsset(a);
+    List<IAsset> added = checked(assets, "asset");
+    synchronized (lock) {
+      this.assets = this.assets.append(added);
+      Totals current = totals;
+      if (current != null) {
+        updateTotals(current, () -> {
+          BalanceSheet sheet = current.sheet();
+          for (IAsset a : added) {
+            sheet = sheet.plusAsset(a.value());
+          }
+          return sheet;
+        });
+      }
     }
   }
 
+  /**
+   * @return an unmodifiable snapshot of the assets
+   */
   public List<IAsset> getAssets() {
-    return Collections.unmodifiableList(new ArrayList<>(assets));
+    return assets;
   }
 
   public void addLiability(ILiability liability) {
-    liabilities.add(Objects.requireNonNull(liability, "liability cannot be null"));
+    addLiabilities(List.of(Objects.requireNonNull(liability, "liability cannot be null")));
   }
 
   public void addLiabilities(Collection<? extends ILiability> liability) {
-    Objects.requireNonNull(liability, "liability cannot be null");
-    for (ILiability l : liability) {
-      addLiability(l);
+    List<ILiability> added = checked(liability, "liability");
+    synchronized (lock) {
+      this.liabilities = this.liabilities.append(added);
+      Totals current = totals;
+      if (current != null) {
+        updateTotals(current, () -> {
+          BalanceSheet sheet = current.sheet();
+          for (ILiability l : added) {
+            sheet = sheet.plusLiability(l.amount());
+          }
+          return sheet;
+        });
+      }
     }
   }
 
+  /**
+   * @return an unmodifiable snapshot of the liabilities
+   */
   public List<ILiability> getLiabilities() {
-    return Collections.unmodifiableList(new ArrayList<>(liabilities));
+    return liabilities;
   }
 
   public void addParticipation(IParticipation participation) {
-    participations.add(Objects.requireNonNull(participation, "participation cannot be null"));
+    addParticipations(List.of(Objects.requireNonNull(participation, "participation cannot be null")));
   }
 
   public void addParticipations(Collection<? extends IParticipation> participation) {
-    Objects.requireNonNull(participation, "participation cannot be null");
-    for (IParticipation p : participation) {
-      addParticipation(p);
+    List<IParticipation> added = checked(participation, "participation");
+    synchronized (lock) {
+      this.participations = this.participations.append(added);
     }
   }
 
+  /**
+   * @return an unmodifiable snapshot of the participations
+   */
   public List<IParticipation> getParticipations() {
-    return Collections.unmodifiableList(new ArrayList<>(participations));
+    return participations;
   }
 
   public Contact getContact() {
@@ -140,6 +215,130 @@ public final class Person {
     return createdAt;
   }
 
+  /**
+   * Returns the totals of this person.
+   * <p>
+   * The first call computes them; from then on they are kept up to date by the add methods, so
+   * reading them again costs no pass over the assets until the {@link ValuationEpoch} is bumped
+   * (e.g. by a market price refresh) or {@link #invalidateTotals()} is called.
+   *
+   * @return the totals
+   */
+  public BalanceSheet getBalanceSheet() {
+    long epoch = ValuationEpoch.current();
+    Totals current = totals;
+    if (current != null && current.epoch() == epoch) {
+      return current.sheet();
+    }
+    synchronized (lock) {
+      current = totals;
+      if (current == null || current.epoch() != epoch) {
+        current = new Totals(epoch, BalanceSheetCalculation.INSTANCE.evaluate(this));
+        totals = current;
+      }
+      return current.sheet();
+    }
+  }
+
+  /**
+   * @return assets minus liabilities, from the running totals
+   */
+  public BigDecimal getNetWorth() {
+    return getBalanceSheet().netWorth();
+  }
+
+  /**
+   * Drops the running totals, for valuations whose inputs change without bumping the
+   * {@link ValuationEpoch}.
+   */
+  public void invalidateTotals() {
+    synchronized (lock) {
+      totals = null;
+    }
+  }
+
+  /**
+   * Adds an entry to running totals still valid in the current epoch, or drops them.
+   */
+  private void updateTotals(Totals current, Supplier<BalanceSheet> next) {
+    if (current.epoch() != ValuationEpoch.current()) {
+      totals = null;
+      return;
+    }
+    try {
+      totals = new Totals(current.epoch(), next.get());
+    } catch (RuntimeException e) {
+      // The next read recomputes the totals and reports the failing valuation
+      totals = null;
+    }
+  }
+
+  private static <T> List<T> checked(Collection<? extends T> added, String kind) {
+    Objects.requireNonNull(added, kind + " cannot be null");
+    // Copies the collection, so it is read once and cannot change until it is appended
+    return List.copyOf(added);
+  }
+
+  /**
+   * Unmodifiable list of the first {@code size} elements of an array that may hold more.
+   * <p>
+   * Appending to the latest snapshot writes past its end, into the same array while it has spare
+   * capacity, and returns a longer snapshot: older snapshots never read past their own size, so
+   * they are unaffected. Only the latest snapshot of a list is appended to, under the lock of its
+   * person, and it is published through a volatile field.
+   */
+  private static final class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+    private static final Snapshot<?> EMPTY = new Snapshot<>(new Object[0], 0);
+
+    private final Object[] elements;
+    private final int size;
+
+    private Snapshot(Object[] elements, int size) {
+      this.elements = elements;
+      this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Snapshot<T> empty() {
+      return (Snapshot<T>) EMPTY;
+    }
+
+    static <T> Snapshot<T> of(Collection<T> elements) {
+      return elements.isEmpty() ? empty() : new Snapshot<>(elements.toArray(), elements.size());
+    }
+
+    Snapshot<T> append(List<T> added) {
+      if (added.isEmpty()) {
+        return this;
+      }
+      int length = size + added.size();
+      Object[] next = elements;
+      if (length > next.length) {
+        next = Arrays.copyOf(elements, Math.max(length, elements.length * 2));
+      }
+      for (int i = 0; i < added.size(); i++) {
+        next[size + i] = added.get(i);
+      }
+      return new Snapshot<>(next, length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      return (T) elements[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+      return Arrays.copyOf(elements, size);
+    }
+  }
+
   /**
    * Executes a financial calculation using a pluggable strategy.
    *
@@ -150,4 +349,98 @@ public final class Person {
     Objects.requireNonNull(financialCalculation, "calculate cannot be null");
     return financialCalculation.calculate(this);
   }
+
+  /**
+   * Mutable, single-threaded phase of a person: collects its data, then builds the person with its
+   * final lists in one go.
+   */
+  public static class Builder {
+    private String id;
+    private String firstName;
+    private String lastName;
+    private EGender gender;
+    private Contact contact;
+    private Address address;
+    private Birth birth;
+    private final List<IAsset> assets = new ArrayList<>();
+    private final List<ILiability> liabilities = new ArrayList<>();
+    private final List<IParticipation> participations = new ArrayList<>();
+
+    /**
+     * Sets an explicit identifier, e.g. {@link IIdGenerator#nameBased(String)} of the source
+     * record, instead of a generated one.
+     */
+    public Builder id(String id) {
+      this.id = id;
+      return this;
+    }
+
+    public Builder firstName(String firstName) {
+      this.firstName = firstName;
+      return this;
+    }
+
+    public Builder lastName(String lastName) {
+      this.lastName = lastName;
+      return this;
+    }
+
+    public Builder gender(EGender gender) {
+      this.gender = gender;
+      return this;
+    }
+
+    public Builder contact(Contact contact) {
+      this.contact = contact;
+      return this;
+    }
+
+    public Builder address(Address address) {
+      this.address = address;
+      return this;
+    }
+
+    public Builder birth(Birth birth) {
+      this.birth = birth;
+      return this;
+    }
+
+    public Builder addAsset(IAsset asset) {
+      assets.add(Objects.requireNonNull(asset, "asset cannot be null"));
+      return this;
+    }
+
+    public Builder addAssets(Collection<? extends IAsset> assets) {
+      assets.forEach(this::addAsset);
+      return this;
+    }
+
+    public Builder addLiability(ILiability liability) {
+      liabilities.add(Objects.requireNonNull(liability, "liability cannot be null"));
+      return this;
+    }
+
+    public Builder addLiabilities(Collection<? extends ILiability> liabilities) {
+      liabilities.forEach(this::addLiability);
+      return this;
+    }
+
+    public Builder addParticipation(IParticipation participation) {
+      participations.add(Objects.requireNonNull(participation, "participation cannot be null"));
+      return this;
+    }
+
+    public Builder addParticipations(Collection<? extends IParticipation> participations) {
+      participations.forEach(this::addParticipation);
+      return this;
+    }
+
+    /**
+     * @return the person, whose lists keep their thread-safe add methods
+     * @throws NullPointerException if the first name, last name or gender is missing
+     */
+    public Person build() {
+      return new Person(this);
+    }
+  }
 }
@@ -0,0 +1,41 @@
+package com.ketrika.patrimoine.models.generals;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates UUIDs laid out as version 7: a 48-bit millisecond timestamp, a 12-bit sequence and 62
+ * random bits.
+ * <p>
+ * The timestamp and sequence come from one atomic counter, so identifiers are strictly increasing
+ * across threads: past 4096 identifiers in a millisecond the sequence carries into the timestamp,
+ * which runs slightly ahead of the clock until the load drops. Random bits come from
+ * {@link ThreadLocalRandom} and need no synchronization.
+ */
+final class TimeOrderedIdGenerator implements IIdGenerator {
+
+  static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator();
+
+  private static final int SEQUENCE_BITS = 12;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  // Timestamp in milliseconds, shifted left by SEQUENCE_BITS, plus the sequence
+  private final AtomicLong last = new AtomicLong();
+
+  private TimeOrderedIdGenerator() {}
+
+  @Override
+  public String nextId() {
+    long now = System.currentTimeMillis() << SEQUENCE_BITS;
+    long next = last.accumulateAndGet(now, (previous, clock) -> Math.max(previous + 1, clock));
+
+    long timestamp = next >>> SEQUENCE_BITS;
+    long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+    long msb = (timestamp << 16) | VERSION | sequence;
+    long lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+    return new UUID(msb, lsb).toString();
+  }
+}
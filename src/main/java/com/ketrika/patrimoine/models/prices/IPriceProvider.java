@@ -0,0 +1,32 @@
+package com.ketrika.patrimoine.models.prices;
+
+import java.util.Optional;
+
+/**
+ * Source of market prices, by symbol or ticker.
+ * <p>
+ * Implementations are read concurrently by every valuation of a revaluation run, so a lookup must
+ * be thread-safe and should not block. Valuations call {@link #find(String)}, which by default wraps
+ * {@link #price(String)}; a provider overrides it to answer without allocating an {@link Optional}.
+ */
+@FunctionalInterface
+public interface IPriceProvider {
+
+  /**
+   * Returns the latest known price of a symbol.
+   *
+   * @param symbol the symbol or ticker, matched exactly
+   * @return the price, or empty if the symbol is not quoted
+   */
+  Optional<Price> price(String symbol);
+
+  /**
+   * Returns the latest known price of a symbol, or {@code null}, without the {@link Optional}.
+   *
+   * @param symbol the symbol or ticker, matched exactly
+   * @return the price, or {@code null} if the symbol is not quoted
+   */
+  default Price find(String symbol) {
+    return price(symbol).orElse(null);
+  }
+}
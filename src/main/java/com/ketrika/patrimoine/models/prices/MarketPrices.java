@@ -0,0 +1,58 @@
+package com.ketrika.patrimoine.models.prices;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import com.ketrika.patrimoine.models.assets.ValuationEpoch;
+
+/**
+ * Process-wide price provider used by the market valuations read from import files.
+ * <p>
+ * Valuations hold the {@link #global()} view rather than a provider, so installing another provider
+ * reprices every asset without rebuilding it. No provider is installed by default: every symbol is
+ * then unquoted.
+ */
+public final class MarketPrices {
+
+  private static final IPriceProvider NONE = symbol -> Optional.empty();
+  private static final AtomicReference<IPriceProvider> INSTALLED = new AtomicReference<>(NONE);
+  private static final IPriceProvider GLOBAL = new IPriceProvider() {
+    @Override
+    public Optional<Price> price(String symbol) {
+      return INSTALLED.get().price(symbol);
+    }
+
+    @Override
+    public Price find(String symbol) {
+      return INSTALLED.get().find(symbol);
+    }
+  };
+
+  private MarketPrices() {
+    // utility class
+  }
+
+  /**
+   * @return a provider delegating to whichever provider is installed at lookup time
+   */
+  public static IPriceProvider global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Installs the provider behind {@link #global()} and invalidates every memoized valuation.
+   *
+   * @param provider the new provider
+   */
+  public static void install(IPriceProvider provider) {
+    INSTALLED.set(Objects.requireNonNull(provider, "provider cannot be null"));
+    ValuationEpoch.bump();
+  }
+
+  /**
+   * Removes the installed provider, leaving every symbol unquoted.
+   */
+  public static void reset() {
+    install(NONE);
+  }
+}
@@ -0,0 +1,24 @@
+package com.ketrika.patrimoine.models.prices;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Market price of one unit of a symbol.
+ *
+ * @param symbol the symbol or ticker
+ * @param value price per unit
+ * @param timestamp when the price was quoted
+ */
+public record Price(String symbol, BigDecimal value, Instant timestamp) {
+
+  public Price {
+    Objects.requireNonNull(symbol, "symbol cannot be null");
+    Objects.requireNonNull(value, "value cannot be null");
+    Objects.requireNonNull(timestamp, "timestamp cannot be null");
+    if (value.signum() < 0) {
+      throw new IllegalArgumentException("price cannot be negative: " + value);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.ketrika.patrimoine.models.prices;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.models.assets.ValuationEpoch;
+
+/**
+ * Price provider backed by a local CSV price file.
+ * <p>
+ * Each line reads {@code symbol,price[,timestamp]}, the timestamp being an ISO instant or date and
+ * defaulting to the modification time of the file. Blank lines, {@code #} comments and a leading
+ * {@code symbol,...} header are ignored; malformed lines are logged and skipped.
+ * <p>
+ * The prices are held in an immutable snapshot: lookups read it without locking, and
+ * {@link #reload()} builds the next one aside, swaps it in atomically and bumps the
+ * {@link ValuationEpoch}, so the next revaluation sees every new price and none of the old ones.
+ */
+public final class PriceFileProvider implements IPriceProvider {
+
+  private static final Logger LOGGER = LogManager.getLogger(PriceFileProvider.class);
+
+  private final Path file;
+  private final AtomicReference<Map<String, Price>> snapshot = new AtomicReference<>(Map.of());
+
+  private PriceFileProvider(Path file) {
+    this.file = Objects.requireNonNull(file, "file cannot be null");
+  }
+
+  /**
+   * Loads a price file.
+   *
+   * @param file the CSV price file
+   * @return the provider
+   * @throws IOException if the file cannot be read
+   */
+  public static PriceFileProvider load(Path file) throws IOException {
+    var provider = new PriceFileProvider(file);
+    provider.reload();
+    return provider;
+  }
+
+  /**
+   * Reads the price file again and replaces every price at once. On failure the current prices
+   * are kept.
+   *
+   * @return the number of prices loaded
+   * @throws IOException if the file cannot be read
+   */
+  public int reload() throws IOException {
+    Map<String, Price> prices = read();
+    snapshot.set(prices);
+    ValuationEpoch.bump();
+    LOGGER.info("Loaded {} price(s) from {}", prices.size(), file);
+    return prices.size();
+  }
+
+  @Override
+  public Optional<Price> price(String symbol) {
+    return Optional.ofNullable(find(symbol));
+  }
+
+  @Override
+  public Price find(String symbol) {
+    return snapshot.get().get(symbol);
+  }
+
+  /**
+   * @return the number of quoted symbols
+   */
+  public int size() {
+    return snapshot.get().size();
+  }
+
+  private Map<String, Price> read() throws IOException {
+    Instant modified = Files.getLastModifiedTime(file).toInstant();
+    Map<String, Price> prices = new HashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      int number = 0;
+      while ((line = reader.readLine()) != null) {
+        number++;
+        line = line.strip();
+        if (line.isEmpty() || line.startsWith("#")
+            || (number == 1 && line.regionMatches(true, 0, "symbol,", 0, 7))) {
+          continue;
+        }
+        try {
+          Price price = parse(line, modified);
+          prices.put(price.symbol(), price);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+          LOGGER.warn("{}:{}: skipping invalid price: {}", file, number, e.getMessage());
+        }
+      }
+    }
+    return Map.copyOf(prices);
+  }
+
+  private static Price parse(String line, Instant modified) {
+    String[] fields = line.split(",", -1);
+    if (fields.length < 2 || fields.length > 3 || fields[0].isBlank()) {
+      throw new IllegalArgumentException("expected symbol,price[,timestamp]");
+    }
+    Instant timestamp = fields.length == 3 && !fields[2].isBlank()
+        ? timestamp(fields[2].strip())
+        : modified;
+    return new Price(fields[0].strip(), new BigDecimal(fields[1].strip()), timestamp);
+  }
+
+  private static Instant timestamp(String text) {
+    return text.length() == 10
+        ? LocalDate.parse(text).atStartOfDay(ZoneOffset.UTC).toInstant()
+        : Instant.parse(text);
+  }
+}
@@ -0,0 +1,114 @@
+package com.ketrika.patrimoine.parser;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.dto.IAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Base class for the parsers of a built-in asset type, which is bound into its own record.
+ * <p>
+ * Entries bound from the token stream are mapped straight from their record, without any
+ * {@link JsonNode}; an entry read as a tree is first bound into the same record, so that both paths
+ * share one set of rules. Text values are trimmed, and blank values are absent.
+ *
+ * @param <D> the record of the entry
+ */
+public abstract class AbstractAssetParser<D extends IAssetDto>
+    extends AbstractTypedJsonParser<IAsset> implements IAssetParser {
+
+  private final Class<D> dtoType;
+
+  /**
+   * @param type value of the {@code type} field handled by this parser
+   * @param label what is parsed, for error messages (e.g. "bank asset")
+   * @param dtoType the record bound from the entries of that type
+   */
+  protected AbstractAssetParser(String type, String label, Class<D> dtoType) {
+    super(type, label);
+    this.dtoType = Objects.requireNonNull(dtoType, "dtoType cannot be null");
+  }
+
+  /**
+   * @return the record bound from the entries of this type
+   */
+  public final Class<D> dtoType() {
+    return dtoType;
+  }
+
+  /**
+   * Maps an entry already bound into its record.
+   *
+   * @param dto the entry, an instance of {@link #dtoType()}
+   * @return the asset, or empty if the entry is invalid
+   */
+  public final Optional<IAsset> parse(IAssetDto dto) {
+    if (dto == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(build(dtoType.cast(dto)));
+    } catch (Exception ex) {
+      return invalid(ex);
+    }
+  }
+
+  @Override
+  protected final IAsset build(JsonNode node) throws Exception {
+    return build(UtilsJson.recordMapper().treeToValue(node, dtoType));
+  }
+
+  /**
+   * Builds the asset from its bound entry.
+   *
+   * @param dto the entry, never {@code null}
+   * @return the asset
+   * @throws Exception if the entry is invalid
+   */
+  protected abstract IAsset build(D dto) throws Exception;
+
+  /**
+   * Checks that a bound text value is present.
+   *
+   * @throws IllegalArgumentException if the value is absent or blank
+   */
+  protected static String requiredText(String value, String field) {
+    String v = UtilsJson.trimToNull(value);
+    if (v == null) {
+      throw new IllegalArgumentException("missing " + field);
+    }
+    return v;
+  }
+
+  /**
+   * Converts a bound decimal value that must be present.
+   *
+   * @throws IllegalArgumentException if the value is absent, blank or not a number
+   */
+  protected static BigDecimal requiredDecimal(String value, String field) {
+    return UtilsJson.decimal(requiredText(value, field));
+  }
+
+  /**
+   * Converts a bound integer value that must be present.
+   *
+   * @throws IllegalArgumentException if the value is absent, blank or not an integer
+   */
+  protected static int requiredInt(String value, String field) {
+    return Integer.parseInt(requiredText(value, field));
+  }
+
+  /**
+   * Passes an optional value to a builder setter, leaving the builder default when it is absent.
+   */
+  protected static <V> void ifPresent(V value, Consumer<? super V> setter) {
+    if (value != null) {
+      setter.accept(value);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.ketrika.patrimoine.parser;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.ketrika.patrimoine.utils.UtilsJson;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Base class for the parsers of one {@code type} of asset, liability or participation entry.
+ * <p>
+ * Subclasses only build the model object; a missing node yields an empty result, and any exception
+ * thrown while building (missing required field, malformed number, ...) is logged and skips the
+ * entry.
+ *
+ * @param <T> the parsed model type
+ */
+public abstract class AbstractTypedJsonParser<T> implements ITypedJsonParser<T> {
+
+  private static final Logger LOGGER = LogManager.getLogger(AbstractTypedJsonParser.class);
+
+  private final String type;
+  private final String label;
+
+  /**
+   * @param type value of the {@code type} field handled by this parser
+   * @param label what is parsed, for error messages (e.g. "bank asset")
+   */
+  protected AbstractTypedJsonParser(String type, String label) {
+    this.type = Objects.requireNonNull(type, "type cannot be null");
+    this.label = Objects.requireNonNull(label, "label cannot be null");
+  }
+
+  @Override
+  public final Optional<T> parse(JsonNode node) {
+    if (UtilsJson.missing(node)) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(build(node));
+    } catch (Exception ex) {
+      return invalid(ex);
+    }
+  }
+
+  @Override
+  public final String type() {
+    return type;
+  }
+
+  /**
+   * Logs an entry that could not be built, and skips it.
+   *
+   * @param ex why the entry is invalid
+   * @return an empty result
+   */
+  protected final Optional<T> invalid(Exception ex) {
+    LOGGER.error("Invalid {}: {}", label, ex.getMessage());
+    return Optional.empty();
+  }
+
+  /**
+   * Builds the model object from its JSON entry.
+   *
+   * @param node the entry, never missing
+   * @return the model object
+   * @throws Exception if the entry is invalid
+   */
+  protected abstract T build(JsonNode node) throws Exception;
+
+  /**
+   * Reads a text field that must be present.
+   *
+   * @throws IllegalArgumentException if the field is absent or blank
+   */
+  protected static String requiredText(JsonNode node, String field) {
+    return UtilsJson.text(node, field)
+        .orElseThrow(() -> new IllegalArgumentException("missing " + field));
+  }
+
+  /**
+   * Reads a decimal field that must be present.
+   *
+   * @throws IllegalArgumentException if the field is absent, blank or not a number
+   */
+  protected static BigDecimal requiredDecimal(JsonNode node, String field) {
+    return UtilsJson.decimal(node, field)
+        .orElseThrow(() -> new IllegalArgumentException("missing " + field));
+  }
+
+  /**
+   * Reads an integer field that must be present.
+   *
+   * @throws IllegalArgumentException if the field is absent, blank or not an integer
+   */
+  protected static int requiredInt(JsonNode node, String field) {
+    return UtilsJson.integer(node, field)
+        .orElseThrow(() -> new IllegalArgumentException("missing " + field));
+  }
+
+  /**
+   * Reads the {@code percent} field of a participation, a decimal between 0 and 1.
+   *
+   * @throws IllegalArgumentException if the field is absent or out of range
+   */
+  protected static BigDecimal requiredPercent(JsonNode node) {
+    return checkPercent(requiredDecimal(node, "percent"));
+  }
+
+  /**
+   * Checks that a participation percentage is between 0 and 1.
+   *
+   * @throws IllegalArgumentException if it is out of range
+   */
+  protected static BigDecimal checkPercent(BigDecimal percent) {
+    if (percent.signum() < 0 || percent.compareTo(BigDecimal.ONE) > 0) {
+      throw new IllegalArgumentException("percent must be between 0 and 1: " + percent);
+    }
+    return percent;
+  }
+}
@@ -4,6 +4,7 @@ import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.ketrika.patrimoine.models.generals.Address;
+import com.ketrika.patrimoine.parser.dto.AddressDto;
 import com.ketrika.patrimoine.utils.UtilsJson;
 import tools.jackson.databind.JsonNode;
 
@@ -23,7 +24,20 @@ public final class AddressParser {
     var state = UtilsJson.text(node, "state").orElse(null);
     var zip = UtilsJson.text(node, "zipCode").orElse(null);
     var country = UtilsJson.text(node, "country").orElse(null);
+    return create(street, city, state, zip, country);
+  }
+
+  public static Optional<Address> parse(AddressDto dto) {
+    if (dto == null) {
+      return Optional.empty();
+    }
+    return create(UtilsJson.trimToNull(dto.street()), UtilsJson.trimToNull(dto.city()),
+        UtilsJson.trimToNull(dto.state()), UtilsJson.trimToNull(dto.zipCode()),
+        UtilsJson.trimToNull(dto.country()));
+  }
 
+  private static Optional<Address> create(String street, String city, String state, String zip,
+      String country) {
     if (street == null || city == null || state == null || zip == null || country == null) {
       LOGGER.error("Skipping address: missing required fields");
       return Optional.empty();
@@ -1,45 +1,33 @@
 package com.ketrika.patrimoine.parser;
 
-import java.math.BigDecimal;
-import java.util.Optional;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import com.ketrika.patrimoine.models.assets.BankAccountAsset;
-import com.ketrika.patrimoine.models.assets.FixedValuation;
 import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.dto.BankAssetDto;
 import com.ketrika.patrimoine.utils.UtilsJson;
-import tools.jackson.databind.JsonNode;
 
-public class BankAssetParser implements ITypedJsonParser<IAsset> {
+/**
+ * Parses {@code "type": "bank"} entries into {@link BankAccountAsset}.
+ */
+public final class BankAssetParser extends AbstractAssetParser<BankAssetDto> {
 
-  private static final Logger LOGGER = LogManager.getLogger(BankAssetParser.class);
-
-  @Override
-  public Optional<IAsset> parse(JsonNode node) {
-    if (UtilsJson.missing(node)) {
-      return Optional.empty();
-    }
-
-    try {
-      var name = UtilsJson.text(node, "name").orElseThrow();
-      var iban = UtilsJson.text(node, "iban").orElseThrow();
-      var value = new BigDecimal(UtilsJson.text(node, "value").orElse("0"));
-
-      var bankAsset = new BankAccountAsset.Builder()
-          .name(name)
-          .iban(iban)
-          .valuation(new FixedValuation<>(value))
-          .build();
-      return Optional.of(bankAsset);
-    } catch (Exception ex) {
-      LOGGER.error("Invalid bank asset: {}", ex.getMessage());
-      return Optional.empty();
-    }
+  public BankAssetParser() {
+    super("bank", "bank asset", BankAssetDto.class);
   }
 
   @Override
-  public String type() {
-    return "bank";
+  protected IAsset build(BankAssetDto dto) {
+    var builder = new BankAccountAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .iban(requiredText(dto.iban(), "iban"))
+        .valuation(ValuationParser.parse(dto.valuation(), dto.value()));
+
+    ifPresent(UtilsJson.trimToNull(dto.bic()), builder::bic);
+    ifPresent(UtilsJson.trimToNull(dto.bankName()), builder::bankName);
+    ifPresent(UtilsJson.trimToNull(dto.accountHolder()), builder::accountHolder);
+    ifPresent(UtilsJson.bool(dto.jointAccount(), "jointAccount"), builder::jointAccount);
+    ifPresent(UtilsJson.instant(dto.openedAt()), builder::openedAt);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
   }
-
 }
@@ -6,6 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.ketrika.patrimoine.models.generals.Address;
 import com.ketrika.patrimoine.models.generals.Birth;
+import com.ketrika.patrimoine.parser.dto.BirthDto;
 import com.ketrika.patrimoine.utils.UtilsJson;
 import tools.jackson.databind.JsonNode;
 
@@ -20,21 +21,39 @@ public final class BirthParser {
       return Optional.empty();
     }
 
-    var dateOpt = UtilsJson.text(node, "date");
-    if (dateOpt.isEmpty()) {
-      LOGGER.error("Skipping birth: missing date");
+    var date = parseDate(UtilsJson.text(node, "date").orElse(null));
+    if (date == null) {
       return Optional.empty();
     }
+    return create(date, AddressParser.parse(node.path("place")));
+  }
 
-    LocalDate date;
+  public static Optional<Birth> parse(BirthDto dto) {
+    if (dto == null) {
+      return Optional.empty();
+    }
+
+    var date = parseDate(UtilsJson.trimToNull(dto.date()));
+    if (date == null) {
+      return Optional.empty();
+    }
+    return create(date, AddressParser.parse(dto.place()));
+  }
+
+  private static LocalDate parseDate(String text) {
+    if (text == null) {
+      LOGGER.error("Skipping birth: missing date");
+      return null;
+    }
     try {
-      date = LocalDate.parse(dateOpt.get());
+      return LocalDate.parse(text);
     } catch (Exception e) {
       LOGGER.error("Skipping birth: invalid date format {}", e.getMessage());
-      return Optional.empty();
+      return null;
     }
+  }
 
-    Optional<Address> placeOpt = AddressParser.parse(node.path("place"));
+  private static Optional<Birth> create(LocalDate date, Optional<Address> placeOpt) {
     if (placeOpt.isEmpty()) {
       LOGGER.error("Skipping birth: invalid place address");
       return Optional.empty();
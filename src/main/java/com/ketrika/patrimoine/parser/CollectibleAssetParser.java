@@ -0,0 +1,35 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.CollectibleAsset;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.dto.CollectibleAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "collectible"} entries into {@link CollectibleAsset}.
+ */
+public final class CollectibleAssetParser extends AbstractAssetParser<CollectibleAssetDto> {
+
+  public CollectibleAssetParser() {
+    super("collectible", "collectible asset", CollectibleAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(CollectibleAssetDto dto) {
+    var builder = new CollectibleAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .category(requiredText(dto.category(), "category"))
+        .valuation(ValuationParser.parse(dto.valuation(), dto.value()));
+
+    ifPresent(UtilsJson.trimToNull(dto.manufacturer()), builder::manufacturer);
+    ifPresent(UtilsJson.trimToNull(dto.model()), builder::model);
+    ifPresent(UtilsJson.trimToNull(dto.serialNumber()), builder::serialNumber);
+    ifPresent(UtilsJson.bool(dto.limitedEdition(), "limitedEdition"), builder::limitedEdition);
+    ifPresent(UtilsJson.integer(dto.editionNumber()), builder::editionNumber);
+    ifPresent(UtilsJson.instant(dto.acquiredAt()), builder::acquiredAt);
+    ifPresent(UtilsJson.decimal(dto.purchasePrice()), builder::purchasePrice);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
@@ -4,6 +4,7 @@ import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.ketrika.patrimoine.models.generals.Contact;
+import com.ketrika.patrimoine.parser.dto.ContactDto;
 import com.ketrika.patrimoine.utils.UtilsJson;
 import tools.jackson.databind.JsonNode;
 
@@ -21,7 +22,18 @@ public final class ContactParser {
     var email = UtilsJson.text(node, "email").orElse(null);
     var phone = UtilsJson.text(node, "phone").orElse(null);
     var secondary = UtilsJson.text(node, "secondaryPhone").orElse(null);
+    return create(email, phone, secondary);
+  }
+
+  public static Optional<Contact> parse(ContactDto dto) {
+    if (dto == null) {
+      return Optional.empty();
+    }
+    return create(UtilsJson.trimToNull(dto.email()), UtilsJson.trimToNull(dto.phone()),
+        UtilsJson.trimToNull(dto.secondaryPhone()));
+  }
 
+  private static Optional<Contact> create(String email, String phone, String secondary) {
     if (email == null || phone == null) {
       LOGGER.error("Skipping contact: missing email or phone.");
       return Optional.empty();
@@ -0,0 +1,22 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.participations.CooperativeMembership;
+import com.ketrika.patrimoine.models.participations.IParticipation;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "cooperative"} entries into {@link CooperativeMembership}.
+ */
+public final class CooperativeMembershipParser extends AbstractTypedJsonParser<IParticipation>
+    implements IParticipationParser {
+
+  public CooperativeMembershipParser() {
+    super("cooperative", "cooperative membership");
+  }
+
+  @Override
+  protected IParticipation build(JsonNode node) {
+    return new CooperativeMembership(requiredText(node, "entity"), requiredPercent(node),
+        requiredText(node, "membershipId"));
+  }
+}
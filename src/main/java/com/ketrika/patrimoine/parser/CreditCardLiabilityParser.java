@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.liabilities.CreditCardLiability;
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "credit-card"} entries into {@link CreditCardLiability}.
+ */
+public final class CreditCardLiabilityParser extends AbstractTypedJsonParser<ILiability>
+    implements ILiabilityParser {
+
+  public CreditCardLiabilityParser() {
+    super("credit-card", "credit card liability");
+  }
+
+  @Override
+  protected ILiability build(JsonNode node) {
+    return new CreditCardLiability(requiredText(node, "description"), requiredDecimal(node, "balance"));
+  }
+}
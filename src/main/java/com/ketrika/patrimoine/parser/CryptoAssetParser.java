@@ -0,0 +1,34 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.CryptoAsset;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.dto.CryptoAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "crypto"} entries into {@link CryptoAsset}.
+ */
+public final class CryptoAssetParser extends AbstractAssetParser<CryptoAssetDto> {
+
+  public CryptoAssetParser() {
+    super("crypto", "crypto asset", CryptoAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(CryptoAssetDto dto) {
+    var builder = new CryptoAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .symbol(requiredText(dto.symbol(), "symbol"))
+        .quantity(requiredDecimal(dto.quantity(), "quantity"))
+        .valuation(ValuationParser.<CryptoAsset>parse(dto.valuation(), dto.value(), dto.symbol(),
+            asset -> asset.getQuantity().doubleValue()));
+
+    ifPresent(UtilsJson.trimToNull(dto.network()), builder::network);
+    ifPresent(UtilsJson.trimToNull(dto.walletAddress()), builder::walletAddress);
+    ifPresent(UtilsJson.instant(dto.acquiredAt()), builder::acquiredAt);
+    ifPresent(UtilsJson.decimal(dto.purchasePrice()), builder::purchasePrice);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
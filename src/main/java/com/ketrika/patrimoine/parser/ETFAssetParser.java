@@ -0,0 +1,34 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.ETFAsset;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.dto.ETFAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "etf"} entries into {@link ETFAsset}.
+ */
+public final class ETFAssetParser extends AbstractAssetParser<ETFAssetDto> {
+
+  public ETFAssetParser() {
+    super("etf", "ETF asset", ETFAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(ETFAssetDto dto) {
+    var builder = new ETFAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .ticker(requiredText(dto.ticker(), "ticker"))
+        .shares(requiredInt(dto.shares(), "shares"))
+        .valuation(ValuationParser.<ETFAsset>parse(dto.valuation(), dto.value(), dto.ticker(),
+            ETFAsset::getShares));
+
+    ifPresent(UtilsJson.trimToNull(dto.exchange()), builder::exchange);
+    ifPresent(UtilsJson.trimToNull(dto.fundManager()), builder::fundManager);
+    ifPresent(UtilsJson.decimal(dto.expenseRatio()), builder::expenseRatio);
+    ifPresent(UtilsJson.decimal(dto.purchasePrice()), builder::purchasePrice);
+    ifPresent(UtilsJson.instant(dto.acquiredAt()), builder::acquiredAt);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
@@ -3,50 +3,248 @@ package com.ketrika.patrimoine.parser;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import com.ketrika.patrimoine.models.assets.IAsset;
 import com.ketrika.patrimoine.models.liabilities.ILiability;
 import com.ketrika.patrimoine.models.participations.IParticipation;
+import com.ketrika.patrimoine.parser.dto.AssetNodeDto;
+import com.ketrika.patrimoine.parser.dto.IAssetDto;
 import com.ketrika.patrimoine.utils.UtilsJson;
 import tools.jackson.databind.JsonNode;
 
+/**
+ * Dispatches asset, liability and participation entries to the parser registered for their
+ * {@code type}.
+ * <p>
+ * Parsers are discovered with {@link ServiceLoader} through {@link IAssetParser},
+ * {@link ILiabilityParser} and {@link IParticipationParser}, so that a jar listing its own parsers
+ * in {@code META-INF/services} adds new types without any code change here. The dispatch tables are
+ * built once and never change afterwards: the {@link #shared()} registry is safe to use from any
+ * thread, and a lookup takes no lock and allocates nothing. Parsers are added through a
+ * {@link Builder} or {@code META-INF/services}, never to a registry in use. The type is matched
+ * exactly once trimmed, and each unknown type is reported once.
+ * <p>
+ * The tables are precomputed {@link DispatchTable}s rather than hash maps: the type of every entry
+ * is a freshly parsed string whose hash is not cached yet, and a table locates it from its length
+ * and end characters instead of hashing it whole.
+ */
 public final class FinancialParsersRegistry {
 
-  private final Map<String, ITypedJsonParser<IAsset>> assetParsers = new HashMap<>();
-  private final Map<String, ITypedJsonParser<ILiability>> liabilityParsers = new HashMap<>();
-  private final Map<String, ITypedJsonParser<IParticipation>> participationParsers = new HashMap<>();
+  private static final Logger LOGGER = LogManager.getLogger(FinancialParsersRegistry.class);
+  /** Past this many distinct unknown types, they are only logged at debug level. */
+  private static final int MAX_REPORTED_TYPES = 256;
 
+  private final DispatchTable<IAsset> assetParsers;
+  private final DispatchTable<ILiability> liabilityParsers;
+  private final DispatchTable<IParticipation> participationParsers;
+  private final Set<String> reportedTypes = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Builds a registry with every parser found on the class path.
+   */
   public FinancialParsersRegistry() {
-    registerAsset(new BankAssetParser());
+    this(new Builder().discover());
   }
 
-  public void registerAsset(ITypedJsonParser<IAsset> parser) {
-    assetParsers.put(parser.type(), parser);
+  private FinancialParsersRegistry(Builder builder) {
+    this.assetParsers = new DispatchTable<>(builder.assetParsers);
+    this.liabilityParsers = new DispatchTable<>(builder.liabilityParsers);
+    this.participationParsers = new DispatchTable<>(builder.participationParsers);
   }
 
-  public void registerLiability(ITypedJsonParser<ILiability> parser) {
-    liabilityParsers.put(parser.type(), parser);
+  /**
+   * Returns the registry of the parsers found on the class path, discovered on first use.
+   *
+   * @return the shared registry
+   */
+  public static FinancialParsersRegistry shared() {
+    return Shared.INSTANCE;
   }
 
-  public void registerParticipation(ITypedJsonParser<IParticipation> parser) {
-    participationParsers.put(parser.type(), parser);
+  public Optional<IAsset> parseAsset(JsonNode json) {
+    return resolve(json, assetParsers, "asset");
   }
 
-  public Optional<IAsset> parseAsset(JsonNode json) {
-    return resolve(json, assetParsers);
+  /**
+   * Maps an asset entry bound from the token stream, with the same rules as
+   * {@link #parseAsset(JsonNode)}. A built-in record goes straight to its parser; an entry kept as
+   * a subtree, or whose type is handled by a parser registered over the built-in one, is read as a
+   * tree.
+   *
+   * @param dto the bound entry (may be {@code null})
+   * @return the asset, or empty if the entry is invalid or of an unknown type
+   */
+  public Optional<IAsset> parseAsset(IAssetDto dto) {
+    if (dto == null) {
+      return Optional.empty();
+    }
+    if (dto instanceof AssetNodeDto entry) {
+      return parseAsset(entry.node());
+    }
+
+    ITypedJsonParser<IAsset> parser = assetParsers.get(dto.type());
+    if (parser instanceof AbstractAssetParser<?> bound && bound.dtoType().isInstance(dto)) {
+      return bound.parse(dto);
+    }
+    return parseAsset(UtilsJson.recordMapper().<JsonNode>valueToTree(dto));
   }
 
   public Optional<ILiability> parseLiability(JsonNode json) {
-    return resolve(json, liabilityParsers);
+    return resolve(json, liabilityParsers, "liability");
   }
 
   public Optional<IParticipation> parseParticipation(JsonNode json) {
-    return resolve(json, participationParsers);
+    return resolve(json, participationParsers, "participation");
   }
 
-  private <T> Optional<T> resolve(JsonNode json, Map<String, ITypedJsonParser<T>> map) {
-    return UtilsJson.text(json, "type")
-        .map(map::get)
-        .map(parser -> parser.parse(json))
-        .orElse(Optional.empty());
+  /**
+   * Returns the parser registered for an asset type, e.g. to check that a type is supported.
+   *
+   * @param type the type, matched exactly
+   * @return the parser, or empty if no parser claims that type
+   */
+  public Optional<ITypedJsonParser<IAsset>> assetParser(String type) {
+    return Optional.ofNullable(assetParsers.get(type));
+  }
+
+  private <T> Optional<T> resolve(JsonNode json, DispatchTable<T> table, String kind) {
+    JsonNode type = json == null ? null : json.get("type");
+    String key = UtilsJson.missing(type) ? null : UtilsJson.trimToNull(type.asString());
+    if (key == null) {
+      LOGGER.debug("Skipping {} without a type", kind);
+      return Optional.empty();
+    }
+
+    ITypedJsonParser<T> parser = table.get(key);
+    if (parser == null) {
+      reportUnknown(kind, key);
+      return Optional.empty();
+    }
+    return parser.parse(json);
+  }
+
+  /**
+   * Warns once per unknown type, then at debug level: the lookup runs for every entry.
+   */
+  private void reportUnknown(String kind, String key) {
+    if (reportedTypes.size() < MAX_REPORTED_TYPES && reportedTypes.add(kind + ':' + key)) {
+      LOGGER.warn("Skipping {} entries of unknown type: {}", kind, key);
+    } else {
+      LOGGER.debug("Skipping {} of unknown type: {}", kind, key);
+    }
+  }
+
+  /**
+   * Immutable open-addressing table from type keys to parsers.
+   * <p>
+   * The slot of a key is mixed from its length and its first and last characters, then the key is
+   * compared with {@code equals}; the table is at most a quarter full, so a lookup usually ends on
+   * the first slot. Unlike {@link Map#get}, a lookup never computes {@link String#hashCode()}, which
+   * scans the whole string the first time it is called on a freshly parsed value.
+   */
+  private static final class DispatchTable<T> {
+    private final String[] keys;
+    private final ITypedJsonParser<T>[] parsers;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    DispatchTable(Map<String, ITypedJsonParser<T>> entries) {
+      int capacity = Integer.highestOneBit(Math.max(4, entries.size() * 4) - 1) << 1;
+      this.keys = new String[capacity];
+      this.parsers = (ITypedJsonParser<T>[]) new ITypedJsonParser<?>[capacity];
+      this.mask = capacity - 1;
+      entries.forEach((key, parser) -> {
+        int i = slot(key);
+        while (keys[i] != null) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        parsers[i] = parser;
+      });
+    }
+
+    ITypedJsonParser<T> get(String key) {
+      for (int i = slot(key); keys[i] != null; i = (i + 1) & mask) {
+        String candidate = keys[i];
+        if (candidate.length() == key.length() && candidate.equals(key)) {
+          return parsers[i];
+        }
+      }
+      return null;
+    }
+
+    private int slot(String key) {
+      int length = key.length();
+      if (length == 0) {
+        return 0;
+      }
+      int h = length * 0x9E3779B9 ^ key.charAt(0) * 0x85EBCA6B ^ key.charAt(length - 1);
+      return (h ^ h >>> 15) & mask;
+    }
+  }
+
+  /**
+   * Lazily discovers the shared registry, once, on first use.
+   */
+  private static final class Shared {
+    static final FinancialParsersRegistry INSTANCE = new FinancialParsersRegistry();
+  }
+
+  // -------------------------
+  // BUILDER
+  // -------------------------
+
+  /**
+   * Assembles a registry from discovered and/or explicitly registered parsers. When two parsers
+   * claim the same type, the one registered last wins.
+   */
+  public static class Builder {
+    private final Map<String, ITypedJsonParser<IAsset>> assetParsers = new HashMap<>();
+    private final Map<String, ITypedJsonParser<ILiability>> liabilityParsers = new HashMap<>();
+    private final Map<String, ITypedJsonParser<IParticipation>> participationParsers =
+        new HashMap<>();
+
+    /**
+     * Registers every parser found on the class path with {@link ServiceLoader}.
+     */
+    public Builder discover() {
+      ClassLoader loader = FinancialParsersRegistry.class.getClassLoader();
+      ServiceLoader.load(IAssetParser.class, loader).forEach(this::registerAsset);
+      ServiceLoader.load(ILiabilityParser.class, loader).forEach(this::registerLiability);
+      ServiceLoader.load(IParticipationParser.class, loader).forEach(this::registerParticipation);
+      return this;
+    }
+
+    public Builder registerAsset(ITypedJsonParser<IAsset> parser) {
+      register(assetParsers, parser, "asset");
+      return this;
+    }
+
+    public Builder registerLiability(ITypedJsonParser<ILiability> parser) {
+      register(liabilityParsers, parser, "liability");
+      return this;
+    }
+
+    public Builder registerParticipation(ITypedJsonParser<IParticipation> parser) {
+      register(participationParsers, parser, "participation");
+      return this;
+    }
+
+    public FinancialParsersRegistry build() {
+      return new FinancialParsersRegistry(this);
+    }
+
+    private static <T> void register(Map<String, ITypedJsonParser<T>> table,
+        ITypedJsonParser<T> parser, String kind) {
+      var previous = table.put(parser.type(), parser);
+      if (previous != null && previous.getClass() != parser.getClass()) {
+        LOGGER.warn("{} type '{}': {} replaces {}", kind, parser.type(),
+            parser.getClass().getName(), previous.getClass().getName());
+      }
+    }
   }
 }
@@ -0,0 +1,35 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.FranchiseRightAsset;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.dto.FranchiseRightAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "franchise"} entries into {@link FranchiseRightAsset}.
+ */
+public final class FranchiseRightAssetParser extends AbstractAssetParser<FranchiseRightAssetDto> {
+
+  public FranchiseRightAssetParser() {
+    super("franchise", "franchise right asset", FranchiseRightAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(FranchiseRightAssetDto dto) {
+    var builder = new FranchiseRightAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .yearsRemaining(requiredInt(dto.yearsRemaining(), "yearsRemaining"))
+        .annualProfit(requiredDecimal(dto.annualProfit(), "annualProfit"))
+        .valuation(ValuationParser.<FranchiseRightAsset>parse(dto.valuation(), dto.value(),
+            FranchiseRightAsset::getYearsRemaining));
+
+    ifPresent(UtilsJson.trimToNull(dto.franchisor()), builder::franchisor);
+    ifPresent(UtilsJson.trimToNull(dto.contractId()), builder::contractId);
+    ifPresent(UtilsJson.instant(dto.contractStart()), builder::contractStart);
+    ifPresent(UtilsJson.instant(dto.contractEnd()), builder::contractEnd);
+    ifPresent(UtilsJson.bool(dto.renewable(), "renewable"), builder::renewable);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
@@ -0,0 +1,22 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.participations.FundParticipation;
+import com.ketrika.patrimoine.models.participations.IParticipation;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "fund"} entries into {@link FundParticipation}.
+ */
+public final class FundParticipationParser extends AbstractTypedJsonParser<IParticipation>
+    implements IParticipationParser {
+
+  public FundParticipationParser() {
+    super("fund", "fund participation");
+  }
+
+  @Override
+  protected IParticipation build(JsonNode node) {
+    return new FundParticipation(requiredText(node, "entity"), requiredPercent(node),
+        requiredText(node, "fundId"));
+  }
+}
@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.dto.GeneralAssetDto;
+
+/**
+ * Parses {@code "type": "general"} entries into {@link GeneralAsset}.
+ */
+public final class GeneralAssetParser extends AbstractAssetParser<GeneralAssetDto> {
+
+  public GeneralAssetParser() {
+    super("general", "general asset", GeneralAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(GeneralAssetDto dto) {
+    return new GeneralAsset(requiredText(dto.name(), "name"),
+        ValuationParser.parse(dto.valuation(), dto.value()));
+  }
+}
@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.liabilities.GeneralLiability;
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "general"} entries into {@link GeneralLiability}.
+ */
+public final class GeneralLiabilityParser extends AbstractTypedJsonParser<ILiability>
+    implements ILiabilityParser {
+
+  public GeneralLiabilityParser() {
+    super("general", "general liability");
+  }
+
+  @Override
+  protected ILiability build(JsonNode node) {
+    return new GeneralLiability(requiredText(node, "description"), requiredDecimal(node, "amount"));
+  }
+}
@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.participations.GeneralParticipation;
+import com.ketrika.patrimoine.models.participations.IParticipation;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "general"} entries into {@link GeneralParticipation}.
+ */
+public final class GeneralParticipationParser extends AbstractTypedJsonParser<IParticipation>
+    implements IParticipationParser {
+
+  public GeneralParticipationParser() {
+    super("general", "general participation");
+  }
+
+  @Override
+  protected IParticipation build(JsonNode node) {
+    return new GeneralParticipation(requiredText(node, "entity"), requiredPercent(node));
+  }
+}
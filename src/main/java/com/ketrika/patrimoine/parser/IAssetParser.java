@@ -0,0 +1,12 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+
+/**
+ * Service interface of the asset parsers, discovered with {@link java.util.ServiceLoader}.
+ * <p>
+ * Implementations need a public no-argument constructor and are listed in
+ * {@code META-INF/services/com.ketrika.patrimoine.parser.IAssetParser}.
+ */
+public interface IAssetParser extends ITypedJsonParser<IAsset> {
+}
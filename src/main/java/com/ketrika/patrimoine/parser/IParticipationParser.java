@@ -0,0 +1,12 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.participations.IParticipation;
+
+/**
+ * Service interface of the participation parsers, discovered with {@link java.util.ServiceLoader}.
+ * <p>
+ * Implementations need a public no-argument constructor and are listed in
+ * {@code META-INF/services/com.ketrika.patrimoine.parser.IParticipationParser}.
+ */
+public interface IParticipationParser extends ITypedJsonParser<IParticipation> {
+}
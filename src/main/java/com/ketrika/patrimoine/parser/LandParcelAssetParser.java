@@ -0,0 +1,35 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.LandParcelAsset;
+import com.ketrika.patrimoine.parser.dto.LandParcelAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "land"} entries into {@link LandParcelAsset}.
+ */
+public final class LandParcelAssetParser extends AbstractAssetParser<LandParcelAssetDto> {
+
+  public LandParcelAssetParser() {
+    super("land", "land parcel asset", LandParcelAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(LandParcelAssetDto dto) {
+    var builder = new LandParcelAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .acreage(requiredDecimal(dto.acreage(), "acreage").doubleValue())
+        .zoningType(requiredText(dto.zoningType(), "zoningType"))
+        .valuation(ValuationParser.<LandParcelAsset>parse(dto.valuation(), dto.value(),
+            LandParcelAsset::getAcreage));
+
+    ifPresent(UtilsJson.trimToNull(dto.location()), builder::location);
+    ifPresent(UtilsJson.trimToNull(dto.parcelId()), builder::parcelId);
+    ifPresent(UtilsJson.bool(dto.roadAccess(), "roadAccess"), builder::roadAccess);
+    ifPresent(UtilsJson.decimal(dto.purchasePrice()), builder::purchasePrice);
+    ifPresent(UtilsJson.instant(dto.acquiredAt()), builder::acquiredAt);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
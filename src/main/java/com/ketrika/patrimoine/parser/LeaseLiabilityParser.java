@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+import com.ketrika.patrimoine.models.liabilities.LeaseLiability;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "lease"} entries into {@link LeaseLiability}.
+ */
+public final class LeaseLiabilityParser extends AbstractTypedJsonParser<ILiability>
+    implements ILiabilityParser {
+
+  public LeaseLiabilityParser() {
+    super("lease", "lease liability");
+  }
+
+  @Override
+  protected ILiability build(JsonNode node) {
+    return new LeaseLiability(requiredText(node, "description"), requiredDecimal(node, "remainingPayments"));
+  }
+}
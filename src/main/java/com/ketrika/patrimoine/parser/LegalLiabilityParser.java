@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+import com.ketrika.patrimoine.models.liabilities.LegalLiability;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "legal"} entries into {@link LegalLiability}.
+ */
+public final class LegalLiabilityParser extends AbstractTypedJsonParser<ILiability>
+    implements ILiabilityParser {
+
+  public LegalLiabilityParser() {
+    super("legal", "legal liability");
+  }
+
+  @Override
+  protected ILiability build(JsonNode node) {
+    return new LegalLiability(requiredText(node, "description"), requiredDecimal(node, "amount"));
+  }
+}
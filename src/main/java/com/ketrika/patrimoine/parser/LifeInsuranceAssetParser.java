@@ -0,0 +1,32 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.LifeInsuranceAsset;
+import com.ketrika.patrimoine.parser.dto.LifeInsuranceAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "life-insurance"} entries into {@link LifeInsuranceAsset}.
+ */
+public final class LifeInsuranceAssetParser extends AbstractAssetParser<LifeInsuranceAssetDto> {
+
+  public LifeInsuranceAssetParser() {
+    super("life-insurance", "life insurance asset", LifeInsuranceAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(LifeInsuranceAssetDto dto) {
+    var builder = new LifeInsuranceAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .contractNumber(requiredText(dto.contractNumber(), "contractNumber"))
+        .valuation(ValuationParser.parse(dto.valuation(), dto.value()));
+
+    ifPresent(UtilsJson.trimToNull(dto.ownerName()), builder::ownerName);
+    ifPresent(UtilsJson.trimToNull(dto.insuredPersonName()), builder::insuredPersonName);
+    ifPresent(UtilsJson.trimToNull(dto.beneficiaryName()), builder::beneficiaryName);
+    ifPresent(UtilsJson.trimToNull(dto.issuer()), builder::issuer);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+import com.ketrika.patrimoine.models.liabilities.LoanLiability;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "loan"} entries into {@link LoanLiability}.
+ */
+public final class LoanLiabilityParser extends AbstractTypedJsonParser<ILiability>
+    implements ILiabilityParser {
+
+  public LoanLiabilityParser() {
+    super("loan", "loan liability");
+  }
+
+  @Override
+  protected ILiability build(JsonNode node) {
+    return new LoanLiability(requiredText(node, "description"), requiredDecimal(node, "outstanding"));
+  }
+}
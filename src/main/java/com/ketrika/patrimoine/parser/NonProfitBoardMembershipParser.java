@@ -0,0 +1,26 @@
+package com.ketrika.patrimoine.parser;
+
+import java.math.BigDecimal;
+import com.ketrika.patrimoine.models.participations.IParticipation;
+import com.ketrika.patrimoine.models.participations.NonProfitBoardMembership;
+import com.ketrika.patrimoine.utils.UtilsJson;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "non-profit-board"} entries into {@link NonProfitBoardMembership}.
+ */
+public final class NonProfitBoardMembershipParser extends AbstractTypedJsonParser<IParticipation>
+    implements IParticipationParser {
+
+  public NonProfitBoardMembershipParser() {
+    super("non-profit-board", "non-profit board membership");
+  }
+
+  @Override
+  protected IParticipation build(JsonNode node) {
+    // A board seat is governance rather than ownership, the percentage is usually zero
+    var percent = UtilsJson.decimal(node, "percent").orElse(BigDecimal.ZERO);
+    return new NonProfitBoardMembership(requiredText(node, "entity"), checkPercent(percent),
+        requiredText(node, "role"));
+  }
+}
@@ -0,0 +1,22 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.participations.IParticipation;
+import com.ketrika.patrimoine.models.participations.PartnershipParticipation;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "partnership"} entries into {@link PartnershipParticipation}.
+ */
+public final class PartnershipParticipationParser extends AbstractTypedJsonParser<IParticipation>
+    implements IParticipationParser {
+
+  public PartnershipParticipationParser() {
+    super("partnership", "partnership participation");
+  }
+
+  @Override
+  protected IParticipation build(JsonNode node) {
+    return new PartnershipParticipation(requiredText(node, "entity"), requiredPercent(node),
+        requiredText(node, "partnerRole"));
+  }
+}
@@ -1,14 +1,35 @@
 package com.ketrika.patrimoine.parser;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import com.ketrika.patrimoine.models.generals.EGender;
 import com.ketrika.patrimoine.models.generals.Person;
+import com.ketrika.patrimoine.parser.dto.PersonDto;
 import com.ketrika.patrimoine.utils.UtilsJson;
 import tools.jackson.databind.JsonNode;
 
 public final class PersonParser implements IJsonParser<Person> {
 
-  private final FinancialParsersRegistry registry = new FinancialParsersRegistry();
+  private final FinancialParsersRegistry registry;
+
+  /**
+   * Constructs a parser using the shared registry of the parsers found on the class path.
+   */
+  public PersonParser() {
+    this(FinancialParsersRegistry.shared());
+  }
+
+  /**
+   * Constructs a parser dispatching assets, liabilities and participations through a registry.
+   *
+   * @param registry the registry to use
+   */
+  public PersonParser(FinancialParsersRegistry registry) {
+    this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+  }
 
   @Override
   public Optional<Person> parse(JsonNode node) {
@@ -19,22 +40,73 @@ public final class PersonParser implements IJsonParser<Person> {
       return Optional.empty();
     }
 
-    EGender gender = switch (UtilsJson.text(node, "gender").orElse("")) {
+    var builder = new Person.Builder()
+        .firstName(first)
+        .lastName(last)
+        .gender(gender(UtilsJson.text(node, "gender").orElse("")));
+
+    ContactParser.parse(node.path("contact")).ifPresent(builder::contact);
+    AddressParser.parse(node.path("address")).ifPresent(builder::address);
+    BirthParser.parse(node.path("birth")).ifPresent(builder::birth);
+
+    builder.addAssets(UtilsJson.parseArray(node, "assets", registry::parseAsset))
+        .addLiabilities(UtilsJson.parseArray(node, "liabilities", registry::parseLiability))
+        .addParticipations(
+            UtilsJson.parseArray(node, "participations", registry::parseParticipation));
+
+    return Optional.of(builder.build());
+  }
+
+  /**
+   * Maps a Person entry bound from the token stream, with the same rules as
+   * {@link #parse(JsonNode)}.
+   *
+   * @param dto the bound entry
+   * @return the person, or empty if the first or last name is missing
+   */
+  public Optional<Person> parse(PersonDto dto) {
+    if (dto == null) {
+      return Optional.empty();
+    }
+
+    var first = UtilsJson.trimToNull(dto.firstname());
+    var last = UtilsJson.trimToNull(dto.lastname());
+    if (first == null || last == null) {
+      return Optional.empty();
+    }
+
+    var gender = UtilsJson.trimToNull(dto.gender());
+    var builder = new Person.Builder()
+        .firstName(first)
+        .lastName(last)
+        .gender(gender(gender == null ? "" : gender));
+
+    ContactParser.parse(dto.contact()).ifPresent(builder::contact);
+    AddressParser.parse(dto.address()).ifPresent(builder::address);
+    BirthParser.parse(dto.birth()).ifPresent(builder::birth);
+
+    parseAll(dto.assets(), registry::parseAsset, builder::addAsset);
+    parseAll(dto.liabilities(), registry::parseLiability, builder::addLiability);
+    parseAll(dto.participations(), registry::parseParticipation, builder::addParticipation);
+
+    return Optional.of(builder.build());
+  }
+
+  private static EGender gender(String code) {
+    return switch (code) {
       case "F" -> EGender.FEMININE;
       case "M" -> EGender.MASCULINE;
       default -> EGender.OTHER;
     };
+  }
 
-    Person p = new Person(first, last, gender);
-
-    ContactParser.parse(node.path("contact")).ifPresent(p::setContact);
-    AddressParser.parse(node.path("address")).ifPresent(p::setAddress);
-    BirthParser.parse(node.path("birth")).ifPresent(p::setBirth);
-
-    p.addAssets(UtilsJson.parseArray(node, "assets", registry::parseAsset));
-    p.addLiabilities(UtilsJson.parseArray(node, "liabilities", registry::parseLiability));
-    p.addParticipations(UtilsJson.parseArray(node, "participations", registry::parseParticipation));
-
-    return Optional.of(p);
+  private static <E, T> void parseAll(List<E> entries, Function<? super E, Optional<T>> parser,
+      Consumer<? super T> sink) {
+    if (entries == null) {
+      return;
+    }
+    for (E entry : entries) {
+      parser.apply(entry).ifPresent(sink);
+    }
   }
 }
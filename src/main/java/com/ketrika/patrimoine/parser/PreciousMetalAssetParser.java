@@ -0,0 +1,29 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.PreciousMetalAsset;
+import com.ketrika.patrimoine.parser.dto.PreciousMetalAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "precious-metal"} entries into {@link PreciousMetalAsset}.
+ */
+public final class PreciousMetalAssetParser extends AbstractAssetParser<PreciousMetalAssetDto> {
+
+  public PreciousMetalAssetParser() {
+    super("precious-metal", "precious metal asset", PreciousMetalAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(PreciousMetalAssetDto dto) {
+    var builder = new PreciousMetalAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .weightInGrams(requiredDecimal(dto.weightInGrams(), "weightInGrams"))
+        .valuation(ValuationParser.<PreciousMetalAsset>parse(dto.valuation(), dto.value(),
+            asset -> asset.getWeightInGrams().doubleValue()));
+
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
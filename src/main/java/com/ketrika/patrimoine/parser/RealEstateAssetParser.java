@@ -0,0 +1,39 @@
+package com.ketrika.patrimoine.parser;
+
+import java.util.function.ToDoubleFunction;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.RealEstateAsset;
+import com.ketrika.patrimoine.parser.dto.RealEstateAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "real-estate"} entries into {@link RealEstateAsset}.
+ */
+public final class RealEstateAssetParser extends AbstractAssetParser<RealEstateAssetDto> {
+
+  public RealEstateAssetParser() {
+    super("real-estate", "real estate asset", RealEstateAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(RealEstateAssetDto dto) {
+    var buildingArea = UtilsJson.decimal(dto.buildingAreaSqM());
+    // Priced per square meter of building, when the area is known
+    ToDoubleFunction<RealEstateAsset> quantity = buildingArea == null
+        ? null
+        : asset -> asset.getBuildingAreaSqM().doubleValue();
+
+    var builder = new RealEstateAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .buildingAreaSqM(buildingArea)
+        .valuation(ValuationParser.parse(dto.valuation(), dto.value(), quantity));
+
+    ifPresent(UtilsJson.trimToNull(dto.address()), builder::address);
+    ifPresent(UtilsJson.trimToNull(dto.propertyType()), builder::propertyType);
+    ifPresent(UtilsJson.decimal(dto.landAreaSqM()), builder::landAreaSqM);
+    ifPresent(UtilsJson.integer(dto.yearBuilt()), builder::yearBuilt);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
@@ -0,0 +1,22 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.participations.IParticipation;
+import com.ketrika.patrimoine.models.participations.RealEstateJointOwnership;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "real-estate-joint"} entries into {@link RealEstateJointOwnership}.
+ */
+public final class RealEstateJointOwnershipParser extends AbstractTypedJsonParser<IParticipation>
+    implements IParticipationParser {
+
+  public RealEstateJointOwnershipParser() {
+    super("real-estate-joint", "real estate joint ownership");
+  }
+
+  @Override
+  protected IParticipation build(JsonNode node) {
+    return new RealEstateJointOwnership(requiredText(node, "entity"), requiredPercent(node),
+        requiredText(node, "propertyId"));
+  }
+}
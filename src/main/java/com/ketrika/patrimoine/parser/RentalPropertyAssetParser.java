@@ -0,0 +1,38 @@
+package com.ketrika.patrimoine.parser;
+
+import java.util.function.ToDoubleFunction;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.RentalPropertyAsset;
+import com.ketrika.patrimoine.parser.dto.RentalPropertyAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "rental-property"} entries into {@link RentalPropertyAsset}.
+ */
+public final class RentalPropertyAssetParser extends AbstractAssetParser<RentalPropertyAssetDto> {
+
+  public RentalPropertyAssetParser() {
+    super("rental-property", "rental property asset", RentalPropertyAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(RentalPropertyAssetDto dto) {
+    var area = UtilsJson.decimal(dto.areaSqM());
+    // Priced per square meter, when the area is known
+    ToDoubleFunction<RentalPropertyAsset> quantity = area == null
+        ? null
+        : asset -> asset.getAreaSqM().doubleValue();
+
+    var builder = new RentalPropertyAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .address(requiredText(dto.address(), "address"))
+        .monthlyRent(requiredDecimal(dto.monthlyRent(), "monthlyRent"))
+        .areaSqM(area)
+        .valuation(ValuationParser.parse(dto.valuation(), dto.value(), quantity));
+
+    ifPresent(UtilsJson.integer(dto.yearBuilt()), builder::yearBuilt);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
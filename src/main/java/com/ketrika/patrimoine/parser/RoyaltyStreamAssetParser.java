@@ -0,0 +1,31 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.RoyaltyStreamAsset;
+import com.ketrika.patrimoine.parser.dto.RoyaltyStreamAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "royalty"} entries into {@link RoyaltyStreamAsset}.
+ */
+public final class RoyaltyStreamAssetParser extends AbstractAssetParser<RoyaltyStreamAssetDto> {
+
+  public RoyaltyStreamAssetParser() {
+    super("royalty", "royalty stream asset", RoyaltyStreamAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(RoyaltyStreamAssetDto dto) {
+    var builder = new RoyaltyStreamAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .annualRoyaltyIncome(requiredDecimal(dto.annualRoyaltyIncome(), "annualRoyaltyIncome"))
+        .yearsRemaining(requiredInt(dto.yearsRemaining(), "yearsRemaining"))
+        .valuation(ValuationParser.<RoyaltyStreamAsset>parse(dto.valuation(), dto.value(),
+            RoyaltyStreamAsset::getYearsRemaining));
+
+    ifPresent(UtilsJson.trimToNull(dto.royaltyType()), builder::royaltyType);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
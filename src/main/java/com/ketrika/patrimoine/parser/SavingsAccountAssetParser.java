@@ -0,0 +1,31 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.SavingsAccountAsset;
+import com.ketrika.patrimoine.parser.dto.SavingsAccountAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "savings"} entries into {@link SavingsAccountAsset}.
+ */
+public final class SavingsAccountAssetParser extends AbstractAssetParser<SavingsAccountAssetDto> {
+
+  public SavingsAccountAssetParser() {
+    super("savings", "savings account asset", SavingsAccountAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(SavingsAccountAssetDto dto) {
+    var builder = new SavingsAccountAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .valuation(ValuationParser.parse(dto.valuation(), dto.value()));
+
+    ifPresent(UtilsJson.trimToNull(dto.accountNumber()), builder::accountNumber);
+    ifPresent(UtilsJson.trimToNull(dto.bankName()), builder::bankName);
+    ifPresent(UtilsJson.decimal(dto.interestRateAnnual()), builder::interestRateAnnual);
+    ifPresent(UtilsJson.decimal(dto.balance()), builder::balance);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
@@ -0,0 +1,24 @@
+package com.ketrika.patrimoine.parser;
+
+import java.time.LocalDate;
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+import com.ketrika.patrimoine.models.liabilities.TaxLiability;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Parses {@code "type": "tax"} entries into {@link TaxLiability}.
+ */
+public final class TaxLiabilityParser extends AbstractTypedJsonParser<ILiability>
+    implements ILiabilityParser {
+
+  public TaxLiabilityParser() {
+    super("tax", "tax liability");
+  }
+
+  @Override
+  protected ILiability build(JsonNode node) {
+    return new TaxLiability(requiredText(node, "description"),
+        requiredDecimal(node, "unpaidAmount"),
+        LocalDate.parse(requiredText(node, "dueDate")));
+  }
+}
@@ -0,0 +1,30 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.TrustBeneficiaryAsset;
+import com.ketrika.patrimoine.parser.dto.TrustBeneficiaryAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "trust"} entries into {@link TrustBeneficiaryAsset}.
+ */
+public final class TrustBeneficiaryAssetParser
+    extends AbstractAssetParser<TrustBeneficiaryAssetDto> {
+
+  public TrustBeneficiaryAssetParser() {
+    super("trust", "trust beneficiary asset", TrustBeneficiaryAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(TrustBeneficiaryAssetDto dto) {
+    var builder = new TrustBeneficiaryAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .expectedPayout(requiredDecimal(dto.expectedPayout(), "expectedPayout"))
+        .yearsUntilDistribution(requiredInt(dto.yearsUntilDistribution(), "yearsUntilDistribution"))
+        .valuation(ValuationParser.parseTrust(dto.valuation(), dto.value()));
+
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
@@ -0,0 +1,151 @@
+package com.ketrika.patrimoine.parser;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.IValuation;
+import com.ketrika.patrimoine.models.assets.MarketValuation;
+import com.ketrika.patrimoine.models.assets.MultiplicativeValuation;
+import com.ketrika.patrimoine.models.assets.TrustBeneficiaryAsset;
+import com.ketrika.patrimoine.models.assets.TrustBeneficiaryValuation;
+import com.ketrika.patrimoine.models.prices.MarketPrices;
+import com.ketrika.patrimoine.parser.dto.ValuationDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Picks the {@link IValuation} of an asset entry.
+ * <p>
+ * The valuation is described by an optional {@code valuation} object:
+ * <ul>
+ * <li>{@code {"kind": "fixed", "value": 1500}}: {@link FixedValuation}</li>
+ * <li>{@code {"kind": "multiplicative", "unitPrice": 65000}}: {@link MultiplicativeValuation}, the
+ * quantity (units, shares, grams, area...) being read from the asset itself</li>
+ * <li>{@code {"kind": "market", "symbol": "BTC", "unitPrice": 65000}}: {@link MarketValuation}
+ * priced by the {@linkplain MarketPrices#global() installed price provider}; the symbol defaults to
+ * the {@code symbol} of a crypto entry or the {@code ticker} of an ETF entry, and the optional unit
+ * price is used while the symbol is not quoted</li>
+ * <li>{@code {"kind": "trust", "discountRate": 0.05}}: {@link TrustBeneficiaryValuation}, for trust
+ * beneficiary assets only</li>
+ * </ul>
+ * Without a {@code valuation} object, the {@code value} field of the entry is a fixed value, and an
+ * entry with neither is worth zero. Computed valuations are {@linkplain IValuation#memoized()
+ * memoized}.
+ */
+public final class ValuationParser {
+
+  private ValuationParser() {}
+
+  /**
+   * Reads the valuation of an asset that has no natural quantity; only fixed values are accepted.
+   *
+   * @param <T> the asset type
+   * @param valuation the {@code valuation} object of the entry, or {@code null}
+   * @param value the {@code value} field of the entry, or {@code null}
+   * @return the valuation
+   * @throws IllegalArgumentException if the valuation kind is not supported
+   */
+  public static <T extends IAsset> IValuation<T> parse(ValuationDto valuation, String value) {
+    return parse(valuation, value, null, null);
+  }
+
+  /**
+   * Reads the valuation of an asset that has no symbol of its own.
+   *
+   * @param <T> the asset type
+   * @param valuation the {@code valuation} object of the entry, or {@code null}
+   * @param value the {@code value} field of the entry, or {@code null}
+   * @param quantity extracts the quantity priced by a multiplicative valuation, or {@code null} if
+   *        the asset has none
+   * @return the valuation
+   * @throws IllegalArgumentException if the valuation kind is not supported for the asset
+   */
+  public static <T extends IAsset> IValuation<T> parse(ValuationDto valuation, String value,
+      ToDoubleFunction<T> quantity) {
+    return parse(valuation, value, null, quantity);
+  }
+
+  /**
+   * Reads the valuation of an asset.
+   *
+   * @param <T> the asset type
+   * @param valuation the {@code valuation} object of the entry, or {@code null}
+   * @param value the {@code value} field of the entry, or {@code null}
+   * @param symbol the default market symbol of the entry, or {@code null}
+   * @param quantity extracts the quantity priced by a multiplicative valuation, or {@code null} if
+   *        the asset has none
+   * @return the valuation
+   * @throws IllegalArgumentException if the valuation kind is not supported for the asset
+   */
+  public static <T extends IAsset> IValuation<T> parse(ValuationDto valuation, String value,
+      String symbol, ToDoubleFunction<T> quantity) {
+    if (valuation == null) {
+      return fixed(value);
+    }
+
+    return switch (kind(valuation)) {
+      case "fixed" -> fixed(valuation.value());
+      case "multiplicative" -> {
+        if (quantity == null) {
+          throw new IllegalArgumentException("multiplicative valuation needs a quantity");
+        }
+        yield new MultiplicativeValuation<>(unitPrice(valuation), quantity).memoized();
+      }
+      case "market" -> {
+        if (quantity == null) {
+          throw new IllegalArgumentException("market valuation needs a quantity");
+        }
+        yield new MarketValuation<>(MarketPrices.global(), symbol(valuation, symbol),
+            UtilsJson.decimal(valuation.unitPrice()), quantity).memoized();
+      }
+      default -> throw new IllegalArgumentException("unsupported valuation: " + kind(valuation));
+    };
+  }
+
+  /**
+   * Reads the valuation of a trust beneficiary asset, which also accepts the {@code trust} kind.
+   *
+   * @param valuation the {@code valuation} object of the entry, or {@code null}
+   * @param value the {@code value} field of the entry, or {@code null}
+   * @return the valuation
+   * @throws IllegalArgumentException if the valuation kind is not supported
+   */
+  public static IValuation<TrustBeneficiaryAsset> parseTrust(ValuationDto valuation,
+      String value) {
+    if (valuation != null && "trust".equals(kind(valuation))) {
+      BigDecimal rate = UtilsJson.decimal(valuation.discountRate());
+      return new TrustBeneficiaryValuation(rate == null ? BigDecimal.ZERO : rate).memoized();
+    }
+    return parse(valuation, value);
+  }
+
+  private static String kind(ValuationDto valuation) {
+    String kind = UtilsJson.trimToNull(valuation.kind());
+    return kind == null ? "fixed" : kind.toLowerCase(Locale.ROOT);
+  }
+
+  private static <T extends IAsset> IValuation<T> fixed(String value) {
+    BigDecimal v = UtilsJson.decimal(value);
+    return new FixedValuation<>(v == null ? BigDecimal.ZERO : v);
+  }
+
+  private static String symbol(ValuationDto valuation, String fallback) {
+    String symbol = UtilsJson.trimToNull(valuation.symbol());
+    if (symbol == null) {
+      symbol = UtilsJson.trimToNull(fallback);
+    }
+    if (symbol == null) {
+      throw new IllegalArgumentException("missing valuation symbol");
+    }
+    return symbol;
+  }
+
+  private static BigDecimal unitPrice(ValuationDto valuation) {
+    BigDecimal unitPrice = UtilsJson.decimal(valuation.unitPrice());
+    if (unitPrice == null) {
+      throw new IllegalArgumentException("missing valuation unitPrice");
+    }
+    return unitPrice;
+  }
+}
@@ -0,0 +1,40 @@
+package com.ketrika.patrimoine.parser;
+
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.VehicleAsset;
+import com.ketrika.patrimoine.parser.dto.VehicleAssetDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+
+/**
+ * Parses {@code "type": "vehicle"} entries into {@link VehicleAsset}.
+ */
+public final class VehicleAssetParser extends AbstractAssetParser<VehicleAssetDto> {
+
+  public VehicleAssetParser() {
+    super("vehicle", "vehicle asset", VehicleAssetDto.class);
+  }
+
+  @Override
+  protected IAsset build(VehicleAssetDto dto) {
+    var builder = new VehicleAsset.Builder()
+        .name(requiredText(dto.name(), "name"))
+        .registration(requiredText(dto.registration(), "registration"))
+        .valuation(ValuationParser.parse(dto.valuation(), dto.value()));
+
+    ifPresent(UtilsJson.trimToNull(dto.ownerCompany()), builder::ownerCompany);
+    ifPresent(UtilsJson.trimToNull(dto.manufacturer()), builder::manufacturer);
+    ifPresent(UtilsJson.trimToNull(dto.model()), builder::model);
+    ifPresent(UtilsJson.integer(dto.year()), builder::year);
+    ifPresent(UtilsJson.trimToNull(dto.fuelType()), builder::fuelType);
+    ifPresent(UtilsJson.trimToNull(dto.transmission()), builder::transmission);
+    ifPresent(UtilsJson.integer(dto.seatingCapacity()), builder::seatingCapacity);
+    ifPresent(UtilsJson.integer(dto.horsepower()), builder::horsepower);
+    ifPresent(UtilsJson.decimal(dto.purchasePrice()), builder::purchasePrice);
+    ifPresent(UtilsJson.instant(dto.purchaseDate()), builder::purchaseDate);
+    ifPresent(UtilsJson.longValue(dto.odometerKm()), builder::odometerKm);
+    ifPresent(UtilsJson.trimToNull(dto.usageType()), builder::usageType);
+    ifPresent(UtilsJson.currency(dto.currency()), builder::currency);
+    builder.tags(UtilsJson.tags(dto.tags()));
+    return builder.build();
+  }
+}
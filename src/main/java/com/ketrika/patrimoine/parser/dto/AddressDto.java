@@ -0,0 +1,17 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Postal address bound from a Person entry.
+ *
+ * @param street street
+ * @param city city
+ * @param state state
+ * @param zipCode zip code
+ * @param country country
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AddressDto(String street, String city, String state, String zipCode,
+    String country) {
+}
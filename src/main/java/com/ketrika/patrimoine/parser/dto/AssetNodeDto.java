@@ -0,0 +1,21 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Asset entry of a type without its own record, kept as a subtree for the registered parsers.
+ *
+ * @param node the whole entry
+ */
+public record AssetNodeDto(JsonNode node) implements IAssetDto {
+
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  public AssetNodeDto {
+  }
+
+  @Override
+  public String type() {
+    return null;
+  }
+}
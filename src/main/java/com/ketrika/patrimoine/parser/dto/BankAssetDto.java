@@ -0,0 +1,29 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "bank"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.BankAssetParser}.
+ *
+ * @param type {@code bank}
+ * @param name name
+ * @param iban IBAN
+ * @param bic BIC
+ * @param bankName bank name
+ * @param accountHolder account holder
+ * @param jointAccount {@code true} or {@code false}
+ * @param openedAt opening instant or date
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BankAssetDto(String type, String name, String iban, String bic, String bankName,
+    String accountHolder, String jointAccount, String openedAt, String currency, String value,
+    ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
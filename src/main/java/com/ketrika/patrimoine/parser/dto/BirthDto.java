@@ -0,0 +1,13 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Birth details bound from a Person entry.
+ *
+ * @param date ISO-8601 local date, kept as text so that an invalid date only drops the birth
+ * @param place birth place
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BirthDto(String date, AddressDto place) {
+}
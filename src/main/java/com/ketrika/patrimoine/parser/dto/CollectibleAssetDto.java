@@ -0,0 +1,32 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "collectible"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.CollectibleAssetParser}.
+ *
+ * @param type {@code collectible}
+ * @param name name
+ * @param category category
+ * @param manufacturer manufacturer
+ * @param model model
+ * @param serialNumber serial number
+ * @param limitedEdition {@code true} or {@code false}
+ * @param editionNumber edition number
+ * @param acquiredAt acquisition instant or date
+ * @param purchasePrice purchase price
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CollectibleAssetDto(String type, String name, String category, String manufacturer,
+    String model, String serialNumber, String limitedEdition, String editionNumber,
+    String acquiredAt, String purchasePrice, String currency, String value, ValuationDto valuation,
+    List<String> tags) implements IAssetDto {
+}
@@ -0,0 +1,14 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Contact details bound from a Person entry.
+ *
+ * @param email email address
+ * @param phone main phone number
+ * @param secondaryPhone optional secondary phone number
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ContactDto(String email, String phone, String secondaryPhone) {
+}
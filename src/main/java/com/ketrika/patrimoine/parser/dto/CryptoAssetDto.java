@@ -0,0 +1,29 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "crypto"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.CryptoAssetParser}.
+ *
+ * @param type {@code crypto}
+ * @param name name
+ * @param symbol symbol, also the default market symbol
+ * @param quantity quantity held
+ * @param network network
+ * @param walletAddress wallet address
+ * @param acquiredAt acquisition instant or date
+ * @param purchasePrice purchase price
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CryptoAssetDto(String type, String name, String symbol, String quantity,
+    String network, String walletAddress, String acquiredAt, String purchasePrice, String currency,
+    String value, ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
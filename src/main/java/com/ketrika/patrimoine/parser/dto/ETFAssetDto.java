@@ -0,0 +1,29 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "etf"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.ETFAssetParser}.
+ *
+ * @param type {@code etf}
+ * @param name name
+ * @param ticker ticker, also the default market symbol
+ * @param shares number of shares
+ * @param exchange exchange
+ * @param fundManager fund manager
+ * @param expenseRatio expense ratio
+ * @param purchasePrice purchase price
+ * @param acquiredAt acquisition instant or date
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ETFAssetDto(String type, String name, String ticker, String shares, String exchange,
+    String fundManager, String expenseRatio, String purchasePrice, String acquiredAt, String value,
+    ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
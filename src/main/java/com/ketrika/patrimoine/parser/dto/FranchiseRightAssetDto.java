@@ -0,0 +1,31 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "franchise"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.FranchiseRightAssetParser}.
+ *
+ * @param type {@code franchise}
+ * @param name name
+ * @param yearsRemaining years remaining
+ * @param annualProfit annual profit
+ * @param franchisor franchisor
+ * @param contractId contract id
+ * @param contractStart contract start instant or date
+ * @param contractEnd contract end instant or date
+ * @param renewable {@code true} or {@code false}
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FranchiseRightAssetDto(String type, String name, String yearsRemaining,
+    String annualProfit, String franchisor, String contractId, String contractStart,
+    String contractEnd, String renewable, String currency, String value, ValuationDto valuation,
+    List<String> tags) implements IAssetDto {
+}
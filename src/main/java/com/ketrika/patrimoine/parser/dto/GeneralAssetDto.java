@@ -0,0 +1,22 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "general"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.GeneralAssetParser}.
+ *
+ * @param type {@code general}
+ * @param name name
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GeneralAssetDto(String type, String name, String currency, String value,
+    ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
@@ -0,0 +1,38 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Asset entry bound straight from the token stream.
+ * <p>
+ * The built-in types are bound into their own record, picked from the {@code type} field. Any other
+ * entry, including a type written with surrounding spaces, is kept as an {@link AssetNodeDto}
+ * subtree and resolved by {@link com.ketrika.patrimoine.parser.FinancialParsersRegistry}. Each
+ * record also declares {@code use = NONE}, so that it can be bound on its own from a subtree.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY,
+    property = "type", visible = true, defaultImpl = AssetNodeDto.class)
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = BankAssetDto.class, name = "bank"),
+    @JsonSubTypes.Type(value = CollectibleAssetDto.class, name = "collectible"),
+    @JsonSubTypes.Type(value = CryptoAssetDto.class, name = "crypto"),
+    @JsonSubTypes.Type(value = ETFAssetDto.class, name = "etf"),
+    @JsonSubTypes.Type(value = FranchiseRightAssetDto.class, name = "franchise"),
+    @JsonSubTypes.Type(value = GeneralAssetDto.class, name = "general"),
+    @JsonSubTypes.Type(value = LandParcelAssetDto.class, name = "land"),
+    @JsonSubTypes.Type(value = LifeInsuranceAssetDto.class, name = "life-insurance"),
+    @JsonSubTypes.Type(value = PreciousMetalAssetDto.class, name = "precious-metal"),
+    @JsonSubTypes.Type(value = RealEstateAssetDto.class, name = "real-estate"),
+    @JsonSubTypes.Type(value = RentalPropertyAssetDto.class, name = "rental-property"),
+    @JsonSubTypes.Type(value = RoyaltyStreamAssetDto.class, name = "royalty"),
+    @JsonSubTypes.Type(value = SavingsAccountAssetDto.class, name = "savings"),
+    @JsonSubTypes.Type(value = TrustBeneficiaryAssetDto.class, name = "trust"),
+    @JsonSubTypes.Type(value = VehicleAssetDto.class, name = "vehicle")})
+public interface IAssetDto {
+
+  /**
+   * @return the {@code type} field of the entry, or {@code null} for an {@link AssetNodeDto}
+   */
+  String type();
+}
@@ -0,0 +1,30 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "land"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.LandParcelAssetParser}.
+ *
+ * @param type {@code land}
+ * @param name name
+ * @param acreage acreage
+ * @param zoningType zoning type
+ * @param location location
+ * @param parcelId parcel id
+ * @param roadAccess {@code true} or {@code false}
+ * @param purchasePrice purchase price
+ * @param acquiredAt acquisition instant or date
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LandParcelAssetDto(String type, String name, String acreage, String zoningType,
+    String location, String parcelId, String roadAccess, String purchasePrice, String acquiredAt,
+    String currency, String value, ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
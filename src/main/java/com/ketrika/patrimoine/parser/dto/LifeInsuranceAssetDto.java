@@ -0,0 +1,28 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "life-insurance"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.LifeInsuranceAssetParser}.
+ *
+ * @param type {@code life-insurance}
+ * @param name name
+ * @param contractNumber contract number
+ * @param ownerName owner name
+ * @param insuredPersonName insured person name
+ * @param beneficiaryName beneficiary name
+ * @param issuer issuer
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LifeInsuranceAssetDto(String type, String name, String contractNumber,
+    String ownerName, String insuredPersonName, String beneficiaryName, String issuer,
+    String currency, String value, ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
@@ -0,0 +1,36 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Person entry bound straight from the token stream.
+ * <p>
+ * Assets of a built-in type are bound into their own record (see {@link IAssetDto}). Other assets,
+ * liabilities and participations stay as small {@link JsonNode} subtrees: their layout depends on
+ * their {@code type}, which is resolved by the parsers registered in
+ * {@link com.ketrika.patrimoine.parser.FinancialParsersRegistry}.
+ *
+ * @param firstname first name
+ * @param lastname last name
+ * @param gender {@code F}, {@code M} or anything else for other
+ * @param contact contact details
+ * @param address postal address
+ * @param birth birth date and place
+ * @param assets asset entries
+ * @param liabilities liability entries
+ * @param participations participation entries
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PersonDto(
+    String firstname,
+    String lastname,
+    String gender,
+    ContactDto contact,
+    AddressDto address,
+    BirthDto birth,
+    List<IAssetDto> assets,
+    List<JsonNode> liabilities,
+    List<JsonNode> participations) {
+}
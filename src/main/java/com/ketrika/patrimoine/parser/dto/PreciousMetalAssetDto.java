@@ -0,0 +1,23 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "precious-metal"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.PreciousMetalAssetParser}.
+ *
+ * @param type {@code precious-metal}
+ * @param name name
+ * @param weightInGrams weight in grams
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PreciousMetalAssetDto(String type, String name, String weightInGrams,
+    String currency, String value, ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
@@ -0,0 +1,28 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "real-estate"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.RealEstateAssetParser}.
+ *
+ * @param type {@code real-estate}
+ * @param name name
+ * @param address address
+ * @param propertyType property type
+ * @param buildingAreaSqM building area, priced by a multiplicative valuation
+ * @param landAreaSqM land area
+ * @param yearBuilt year built
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RealEstateAssetDto(String type, String name, String address, String propertyType,
+    String buildingAreaSqM, String landAreaSqM, String yearBuilt, String currency, String value,
+    ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
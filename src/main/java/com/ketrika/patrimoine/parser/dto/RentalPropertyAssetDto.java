@@ -0,0 +1,27 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "rental-property"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.RentalPropertyAssetParser}.
+ *
+ * @param type {@code rental-property}
+ * @param name name
+ * @param address address
+ * @param monthlyRent monthly rent
+ * @param areaSqM area, priced by a multiplicative valuation
+ * @param yearBuilt year built
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RentalPropertyAssetDto(String type, String name, String address, String monthlyRent,
+    String areaSqM, String yearBuilt, String currency, String value, ValuationDto valuation,
+    List<String> tags) implements IAssetDto {
+}
@@ -0,0 +1,26 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "royalty"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.RoyaltyStreamAssetParser}.
+ *
+ * @param type {@code royalty}
+ * @param name name
+ * @param annualRoyaltyIncome annual royalty income
+ * @param yearsRemaining years remaining
+ * @param royaltyType royalty type
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RoyaltyStreamAssetDto(String type, String name, String annualRoyaltyIncome,
+    String yearsRemaining, String royaltyType, String currency, String value,
+    ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
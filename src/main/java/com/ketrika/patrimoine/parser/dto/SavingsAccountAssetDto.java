@@ -0,0 +1,27 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "savings"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.SavingsAccountAssetParser}.
+ *
+ * @param type {@code savings}
+ * @param name name
+ * @param accountNumber account number
+ * @param bankName bank name
+ * @param interestRateAnnual annual interest rate
+ * @param balance balance
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SavingsAccountAssetDto(String type, String name, String accountNumber,
+    String bankName, String interestRateAnnual, String balance, String currency, String value,
+    ValuationDto valuation, List<String> tags) implements IAssetDto {
+}
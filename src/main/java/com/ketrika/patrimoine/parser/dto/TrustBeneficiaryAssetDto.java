@@ -0,0 +1,25 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "trust"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.TrustBeneficiaryAssetParser}.
+ *
+ * @param type {@code trust}
+ * @param name name
+ * @param expectedPayout expected payout
+ * @param yearsUntilDistribution years until distribution
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TrustBeneficiaryAssetDto(String type, String name, String expectedPayout,
+    String yearsUntilDistribution, String currency, String value, ValuationDto valuation,
+    List<String> tags) implements IAssetDto {
+}
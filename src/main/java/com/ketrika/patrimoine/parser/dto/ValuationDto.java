@@ -0,0 +1,17 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * {@code valuation} object of an asset entry. Numbers are kept as text, like every bound value.
+ *
+ * @param kind {@code fixed}, {@code multiplicative}, {@code market} or {@code trust}
+ * @param value fixed value
+ * @param unitPrice unit price of a multiplicative or market valuation
+ * @param symbol quoted symbol of a market valuation
+ * @param discountRate discount rate of a trust valuation
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ValuationDto(String kind, String value, String unitPrice, String symbol,
+    String discountRate) {
+}
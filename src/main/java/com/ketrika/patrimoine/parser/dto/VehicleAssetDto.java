@@ -0,0 +1,38 @@
+package com.ketrika.patrimoine.parser.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * {@code "type": "vehicle"} asset entry, mapped by
+ * {@link com.ketrika.patrimoine.parser.VehicleAssetParser}.
+ *
+ * @param type {@code vehicle}
+ * @param name name
+ * @param registration registration
+ * @param ownerCompany owner company
+ * @param manufacturer manufacturer
+ * @param model model
+ * @param year year
+ * @param fuelType fuel type
+ * @param transmission transmission
+ * @param seatingCapacity seating capacity
+ * @param horsepower horsepower
+ * @param purchasePrice purchase price
+ * @param purchaseDate purchase instant or date
+ * @param odometerKm odometer, in km
+ * @param usageType usage type
+ * @param currency ISO-4217 currency code
+ * @param value fixed value, without a {@code valuation} object
+ * @param valuation valuation
+ * @param tags tags
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record VehicleAssetDto(String type, String name, String registration, String ownerCompany,
+    String manufacturer, String model, String year, String fuelType, String transmission,
+    String seatingCapacity, String horsepower, String purchasePrice, String purchaseDate,
+    String odometerKm, String usageType, String currency, String value, ValuationDto valuation,
+    List<String> tags) implements IAssetDto {
+}
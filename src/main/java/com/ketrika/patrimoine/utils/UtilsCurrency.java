@@ -2,9 +2,13 @@ package com.ketrika.patrimoine.utils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
  * Utility class for currencies.
@@ -14,6 +18,10 @@ import java.util.Objects;
  */
 public final class UtilsCurrency {
 
+  /** Minimum batch size converted in parallel. */
+  public static final int PARALLEL_THRESHOLD = 1 << 15;
+  private static final int CHUNK_SIZE = 1 << 13;
+
   private UtilsCurrency() {
     // Utility class; no instances allowed
   }
@@ -78,6 +86,158 @@ public final class UtilsCurrency {
     return convert(amount, from, to, rate);
   }
 
+  /**
+   * Converts a batch of amounts from one currency to another with the same rate, with the same
+   * result as {@link #convert(BigDecimal, Currency, Currency, BigDecimal)} for each amount.
+   * <p>
+   * Arguments are validated once for the whole batch, and batches of at least
+   * {@value #PARALLEL_THRESHOLD} amounts are split across the common fork-join pool.
+   *
+   * @param amounts non-null amounts, without null elements
+   * @param from source currency
+   * @param to target currency
+   * @param rate exchange rate defined as: 1 {@code from} = {@code rate} {@code to}
+   * @param results receives the converted amounts, at the same indexes; may be {@code amounts}
+   * @throws NullPointerException if any argument is null
+   * @throws IllegalArgumentException if rate is <= 0 or {@code results} is shorter than
+   *         {@code amounts}
+   */
+  public static void convertAll(BigDecimal[] amounts,
+      Currency from,
+      Currency to,
+      BigDecimal rate,
+      BigDecimal[] results) {
+
+    Objects.requireNonNull(amounts, "amounts must not be null");
+    Objects.requireNonNull(from, "source currency must not be null");
+    Objects.requireNonNull(to, "target currency must not be null");
+    Objects.requireNonNull(rate, "rate must not be null");
+    checkBuffer(amounts, results);
+
+    if (rate.compareTo(BigDecimal.ZERO) <= 0) {
+      throw new IllegalArgumentException("Exchange rate must be greater than zero.");
+    }
+
+    if (from.equals(to)) {
+      System.arraycopy(amounts, 0, results, 0, amounts.length);
+      return;
+    }
+
+    forEachChunk(amounts.length, (start, end) -> {
+      for (int i = start; i < end; i++) {
+        results[i] = amounts[i].multiply(rate).setScale(2, RoundingMode.HALF_UP);
+      }
+    });
+  }
+
+  /**
+   * Converts a list of amounts from one currency to another with the same rate.
+   *
+   * @param amounts non-null amounts, without null elements
+   * @param from source currency
+   * @param to target currency
+   * @param rate exchange rate defined as: 1 {@code from} = {@code rate} {@code to}
+   * @return the converted amounts, in the same order
+   * @see #convertAll(BigDecimal[], Currency, Currency, BigDecimal, BigDecimal[])
+   */
+  public static List<BigDecimal> convertAll(List<BigDecimal> amounts,
+      Currency from,
+      Currency to,
+      BigDecimal rate) {
+
+    Objects.requireNonNull(amounts, "amounts must not be null");
+    BigDecimal[] batch = amounts.toArray(new BigDecimal[0]);
+    convertAll(batch, from, to, rate, batch);
+    return Arrays.asList(batch);
+  }
+
+  /**
+   * Converts a batch of amounts, each in its own currency, to one target currency using a table
+   * of exchange rates. The rate of each distinct source currency is looked up once.
+   *
+   * @param amounts non-null amounts, without null elements
+   * @param from source currency of each amount
+   * @param to target currency
+   * @param rates map of exchange rates (keyed by "FROM->TO", e.g. "USD->EUR")
+   * @param results receives the converted amounts, at the same indexes; may be {@code amounts}
+   * @throws IllegalArgumentException if a rate is missing from the map or is <= 0, or if
+   *         {@code from} or {@code results} is shorter than {@code amounts}
+   */
+  public static void convertAll(BigDecimal[] amounts,
+      Currency[] from,
+      Currency to,
+      Map<String, BigDecimal> rates,
+      BigDecimal[] results) {
+
+    Objects.requireNonNull(amounts, "amounts must not be null");
+    Objects.requireNonNull(from, "source currencies must not be null");
+    Objects.requireNonNull(to, "target currency must not be null");
+    Objects.requireNonNull(rates, "rates map must not be null");
+    checkBuffer(amounts, results);
+    if (from.length < amounts.length) {
+      throw new IllegalArgumentException("source currencies are shorter than amounts");
+    }
+
+    // Resolved once per distinct currency; only read by the workers afterwards
+    Map<Currency, BigDecimal> resolved = new HashMap<>();
+    for (int i = 0; i < amounts.length; i++) {
+      resolved.computeIfAbsent(Objects.requireNonNull(from[i], "source currency must not be null"),
+          currency -> rate(currency, to, rates));
+    }
+
+    forEachChunk(amounts.length, (start, end) -> {
+      for (int i = start; i < end; i++) {
+        BigDecimal rate = resolved.get(from[i]);
+        results[i] = rate == null
+            ? amounts[i]
+            : amounts[i].multiply(rate).setScale(2, RoundingMode.HALF_UP);
+      }
+    });
+  }
+
+  /**
+   * Looks up a rate of the table, {@code null} for an identity conversion.
+   */
+  private static BigDecimal rate(Currency from, Currency to, Map<String, BigDecimal> rates) {
+    if (from.equals(to)) {
+      return null;
+    }
+    String key = key(from, to);
+    BigDecimal rate = rates.get(key);
+    if (rate == null) {
+      throw new IllegalArgumentException("Missing exchange rate for " + key);
+    }
+    if (rate.compareTo(BigDecimal.ZERO) <= 0) {
+      throw new IllegalArgumentException("Exchange rate must be greater than zero.");
+    }
+    return rate;
+  }
+
+  private static void checkBuffer(BigDecimal[] amounts, BigDecimal[] results) {
+    Objects.requireNonNull(results, "results must not be null");
+    if (results.length < amounts.length) {
+      throw new IllegalArgumentException("results are shorter than amounts");
+    }
+  }
+
+  /**
+   * Runs a task over {@code [0, size)}, split in chunks across the common pool when large enough.
+   */
+  private static void forEachChunk(int size, IntBinaryConsumer task) {
+    if (size < PARALLEL_THRESHOLD) {
+      task.accept(0, size);
+      return;
+    }
+    int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    IntStream.range(0, chunks).parallel()
+        .forEach(chunk -> task.accept(chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE)));
+  }
+
+  @FunctionalInterface
+  private interface IntBinaryConsumer {
+    void accept(int start, int end);
+  }
+
   /**
    * Creates the map key for an exchange rate.
    *
@@ -1,20 +1,35 @@
 package com.ketrika.patrimoine.utils;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Currency;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.StreamSupport;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Utility helper methods for safely extracting values from {@link JsonNode} structures.
  * <p>
- * This class provides convenience methods for reading optional text fields, parsing arrays into
- * typed lists, and checking whether a JSON node is missing. All methods are null-safe and avoid
- * throwing exceptions for absent fields.
+ * This class provides convenience methods for reading optional text, number, boolean, date and
+ * currency fields, parsing arrays into typed lists, and checking whether a JSON node is missing. All
+ * methods are null-safe and avoid throwing exceptions for absent fields.
  */
 public class UtilsJson {
 
+  private static final ObjectMapper RECORD_MAPPER = JsonMapper.builder()
+      .disable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+      .build();
+
   private UtilsJson() {
     // utility class
   }
@@ -45,6 +60,238 @@ public class UtilsJson {
     return v.isEmpty() ? Optional.empty() : Optional.of(v);
   }
 
+  /**
+   * Extracts a decimal field, written either as a JSON number or as text (e.g. {@code "1500.00"}).
+   *
+   * @param node the JSON node to read from (may be {@code null})
+   * @param field the field name to extract
+   * @return the value, or empty if the field is absent, {@code null} or blank
+   * @throws NumberFormatException if the field is not a decimal number
+   */
+  public static Optional<BigDecimal> decimal(JsonNode node, String field) {
+    JsonNode n = node == null ? null : node.get(field);
+    if (!missing(n) && n.isNumber()) {
+      return Optional.of(n.decimalValue());
+    }
+    return text(node, field).map(BigDecimal::new);
+  }
+
+  /**
+   * Extracts an integer field, written either as a JSON number or as text.
+   *
+   * @param node the JSON node to read from (may be {@code null})
+   * @param field the field name to extract
+   * @return the value, or empty if the field is absent, {@code null} or blank
+   * @throws NumberFormatException if the field is not an integer
+   */
+  public static Optional<Integer> integer(JsonNode node, String field) {
+    JsonNode n = node == null ? null : node.get(field);
+    if (!missing(n) && n.isNumber()) {
+      return Optional.of(n.asInt());
+    }
+    return text(node, field).map(Integer::valueOf);
+  }
+
+  /**
+   * Extracts a long integer field, written either as a JSON number or as text.
+   *
+   * @param node the JSON node to read from (may be {@code null})
+   * @param field the field name to extract
+   * @return the value, or empty if the field is absent, {@code null} or blank
+   * @throws NumberFormatException if the field is not an integer
+   */
+  public static Optional<Long> longValue(JsonNode node, String field) {
+    JsonNode n = node == null ? null : node.get(field);
+    if (!missing(n) && n.isNumber()) {
+      return Optional.of(n.asLong());
+    }
+    return text(node, field).map(Long::valueOf);
+  }
+
+  /**
+   * Extracts a boolean field, written either as a JSON boolean or as {@code "true"} /
+   * {@code "false"}.
+   *
+   * @param node the JSON node to read from (may be {@code null})
+   * @param field the field name to extract
+   * @return the value, or empty if the field is absent, {@code null} or blank
+   * @throws IllegalArgumentException if the field is not a boolean
+   */
+  public static Optional<Boolean> bool(JsonNode node, String field) {
+    JsonNode n = node == null ? null : node.get(field);
+    if (!missing(n) && n.isBoolean()) {
+      return Optional.of(n.booleanValue());
+    }
+    return text(node, field).map(v -> bool(v, field));
+  }
+
+  /**
+   * Extracts an instant, written as an ISO-8601 instant ({@code 2024-01-31T10:15:30Z}) or as a
+   * local date ({@code 2024-01-31}), read as the start of that day in UTC.
+   *
+   * @param node the JSON node to read from (may be {@code null})
+   * @param field the field name to extract
+   * @return the value, or empty if the field is absent, {@code null} or blank
+   * @throws java.time.format.DateTimeParseException if the field is neither
+   */
+  public static Optional<Instant> instant(JsonNode node, String field) {
+    return text(node, field).map(UtilsJson::instant);
+  }
+
+  /**
+   * Extracts an ISO-4217 currency code.
+   *
+   * @param node the JSON node to read from (may be {@code null})
+   * @param field the field name to extract
+   * @return the currency, or empty if the field is absent, {@code null} or blank
+   * @throws IllegalArgumentException if the code is not a supported currency
+   */
+  public static Optional<Currency> currency(JsonNode node, String field) {
+    return text(node, field).map(UtilsJson::currency);
+  }
+
+  /**
+   * Extracts the {@code tags} array of an entry, skipping blank tags.
+   *
+   * @param node the JSON node to read from (may be {@code null})
+   * @return the trimmed tags, empty if there are none
+   */
+  public static List<String> tags(JsonNode node) {
+    JsonNode array = node == null ? null : node.get("tags");
+    if (missing(array) || !array.isArray()) {
+      return List.of();
+    }
+    List<String> tags = new ArrayList<>(array.size());
+    for (JsonNode tag : array) {
+      String v = trimToNull(missing(tag) ? null : tag.asString());
+      if (v != null) {
+        tags.add(v);
+      }
+    }
+    return tags;
+  }
+
+  /**
+   * Normalizes a bound text value the same way as {@link #text(JsonNode, String)}, without wrapping
+   * it in an {@link Optional}.
+   *
+   * @param value the bound value (may be {@code null})
+   * @return the trimmed value, or {@code null} if it is {@code null}, empty or blank
+   */
+  public static String trimToNull(String value) {
+    if (value == null) {
+      return null;
+    }
+    // trim() returns the same instance when there is nothing to strip
+    String v = value.trim();
+    return v.isEmpty() ? null : v;
+  }
+
+  /**
+   * Converts a bound text value the same way as {@link #decimal(JsonNode, String)}.
+   *
+   * @param value the bound value (may be {@code null})
+   * @return the value, or {@code null} if it is {@code null} or blank
+   * @throws NumberFormatException if the value is not a decimal number
+   */
+  public static BigDecimal decimal(String value) {
+    String v = trimToNull(value);
+    return v == null ? null : new BigDecimal(v);
+  }
+
+  /**
+   * Converts a bound text value the same way as {@link #integer(JsonNode, String)}.
+   *
+   * @param value the bound value (may be {@code null})
+   * @return the value, or {@code null} if it is {@code null} or blank
+   * @throws NumberFormatException if the value is not an integer
+   */
+  public static Integer integer(String value) {
+    String v = trimToNull(value);
+    return v == null ? null : Integer.valueOf(v);
+  }
+
+  /**
+   * Converts a bound text value the same way as {@link #longValue(JsonNode, String)}.
+   *
+   * @param value the bound value (may be {@code null})
+   * @return the value, or {@code null} if it is {@code null} or blank
+   * @throws NumberFormatException if the value is not an integer
+   */
+  public static Long longValue(String value) {
+    String v = trimToNull(value);
+    return v == null ? null : Long.valueOf(v);
+  }
+
+  /**
+   * Converts a bound text value the same way as {@link #bool(JsonNode, String)}.
+   *
+   * @param value the bound value (may be {@code null})
+   * @param field the field name, for the error message
+   * @return the value, or {@code null} if it is {@code null} or blank
+   * @throws IllegalArgumentException if the value is not a boolean
+   */
+  public static Boolean bool(String value, String field) {
+    String v = trimToNull(value);
+    if (v == null) {
+      return null;
+    }
+    return switch (v.toLowerCase(Locale.ROOT)) {
+      case "true" -> Boolean.TRUE;
+      case "false" -> Boolean.FALSE;
+      default -> throw new IllegalArgumentException(field + " is not a boolean: " + v);
+    };
+  }
+
+  /**
+   * Converts a bound text value the same way as {@link #instant(JsonNode, String)}.
+   *
+   * @param value the bound value (may be {@code null})
+   * @return the value, or {@code null} if it is {@code null} or blank
+   * @throws java.time.format.DateTimeParseException if the value is neither an instant nor a date
+   */
+  public static Instant instant(String value) {
+    String v = trimToNull(value);
+    if (v == null) {
+      return null;
+    }
+    return v.indexOf('T') >= 0
+        ? Instant.parse(v)
+        : LocalDate.parse(v).atStartOfDay(ZoneOffset.UTC).toInstant();
+  }
+
+  /**
+   * Converts a bound text value the same way as {@link #currency(JsonNode, String)}.
+   *
+   * @param value the bound value (may be {@code null})
+   * @return the currency, or {@code null} if the value is {@code null} or blank
+   * @throws IllegalArgumentException if the code is not a supported currency
+   */
+  public static Currency currency(String value) {
+    String v = trimToNull(value);
+    return v == null ? null : Currency.getInstance(v.toUpperCase(Locale.ROOT));
+  }
+
+  /**
+   * Cleans bound tags the same way as {@link #tags(JsonNode)}.
+   *
+   * @param tags the bound tags (may be {@code null})
+   * @return the trimmed tags, empty if there are none
+   */
+  public static List<String> tags(List<String> tags) {
+    if (tags == null || tags.isEmpty()) {
+      return List.of();
+    }
+    List<String> cleaned = new ArrayList<>(tags.size());
+    for (String tag : tags) {
+      String v = trimToNull(tag);
+      if (v != null) {
+        cleaned.add(v);
+      }
+    }
+    return cleaned;
+  }
+
   /**
    * Parses an array field from a JSON object into a typed {@link List}.
    * <p>
@@ -78,4 +325,29 @@ public class UtilsJson {
   public static boolean missing(JsonNode node) {
     return node == null || node.isMissingNode() || node.isNull();
   }
+
+  /**
+   * Returns a shared mapper for reading records one at a time out of a larger document.
+   * <p>
+   * Trailing-token checks are disabled because the parser is still inside the enclosing array (or
+   * record stream) when a single record has been read. The mapper is thread-safe.
+   *
+   * @return the shared record mapper
+   */
+  public static ObjectMapper recordMapper() {
+    return RECORD_MAPPER;
+  }
+
+  /**
+   * Returns a reader binding one whole NDJSON line to a record type. Unlike
+   * {@link #recordMapper()}, it rejects anything but whitespace after the record, so that a line
+   * such as {@code {...} garbage} is reported instead of silently accepted. The reader is
+   * thread-safe: keep it in a constant.
+   *
+   * @param type the record type
+   * @return a reader for that type
+   */
+  public static ObjectReader lineReader(Class<?> type) {
+    return RECORD_MAPPER.readerFor(type).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+  }
 }
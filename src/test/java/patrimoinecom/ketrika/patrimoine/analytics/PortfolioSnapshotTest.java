@@ -0,0 +1,92 @@
+package patrimoinecom.ketrika.patrimoine.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.analytics.PortfolioSnapshot;
+import com.ketrika.patrimoine.models.assets.BankAccountAsset;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.TagDictionary;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.Money;
+import com.ketrika.patrimoine.models.generals.Person;
+
+class PortfolioSnapshotTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+
+  private static BankAccountAsset account(String value, String... tags) {
+    return new BankAccountAsset.Builder().name("Account").iban("IBAN").currency(EUR)
+        .valuation(new FixedValuation<>(new BigDecimal(value)))
+        .tags(List.of(tags))
+        .build();
+  }
+
+  @Test
+  @DisplayName("Filters and aggregates the columns of the snapshot")
+  void testFiltersAndAggregations() {
+    Person alice = new Person("Alice", "Brown", EGender.FEMININE);
+    alice.addAsset(account("100.005", "liquid"));
+    alice.addAsset(account("200", "liquid", "risky"));
+    Person bob = new Person("Bob", "Smith", EGender.MASCULINE);
+    bob.addAsset(account("400", "risky"));
+    bob.addAsset(new GeneralAsset("House", asset -> new BigDecimal("5000")));
+    bob.addAsset(new GeneralAsset("Broken", asset -> {
+      throw new IllegalStateException("no price");
+    }));
+
+    PortfolioSnapshot snapshot = PortfolioSnapshot.of(List.of(alice, bob));
+
+    assertEquals(4, snapshot.size());
+    assertEquals(1, snapshot.failed());
+    assertEquals(10000, snapshot.minorUnits(0));
+    assertEquals(bob.getId(), snapshot.personId(snapshot.owner(3)));
+    assertTrue(snapshot.hasTag(1, "risky"));
+
+    BitSet liquid = snapshot.tagged("liquid");
+    BitSet riskyOnly = snapshot.tagged("risky");
+    riskyOnly.andNot(liquid);
+    assertEquals(BitSet.valueOf(new long[] {0b100}), riskyOnly);
+    assertEquals(BitSet.valueOf(new long[] {0b110}),
+        snapshot.atLeast(Money.of(new BigDecimal("200"), EUR)));
+    assertEquals(BitSet.valueOf(new long[] {0b1000}), snapshot.ofType(GeneralAsset.class));
+
+    assertEquals(Map.of(EUR, new BigDecimal("700.00"), Currency.getInstance("MGA"),
+        new BigDecimal("5000.00")), snapshot.totals(snapshot.all()));
+    assertArrayEquals(new long[] {30000, 40000},
+        snapshot.totalsByPerson(EUR, snapshot.inCurrency(EUR)));
+    assertEquals(Map.of("liquid", new BigDecimal("300.00"), "risky", new BigDecimal("600.00")),
+        snapshot.totalsByTag(EUR, snapshot.all()));
+  }
+
+  @Test
+  @DisplayName("Numbers tags per snapshot, whatever the number of tags interned elsewhere")
+  void testSnapshotLocalTags() {
+    for (int i = 0; i < 200; i++) {
+      TagDictionary.id("portfolio-snapshot-test-other-" + i);
+    }
+    Person alice = new Person("Alice", "Brown", EGender.FEMININE);
+    alice.addAsset(account("10", "portfolio-snapshot-test-late"));
+    alice.addAsset(account("1", "liquid", "portfolio-snapshot-test-late"));
+
+    PortfolioSnapshot snapshot = PortfolioSnapshot.of(List.of(alice));
+
+    assertEquals(List.of("portfolio-snapshot-test-late", "liquid"), snapshot.tags());
+    assertTrue(snapshot.hasTag(1, "liquid"));
+    assertFalse(snapshot.hasTag(0, "liquid"));
+    assertFalse(snapshot.hasTag(0, "portfolio-snapshot-test-other-0"));
+    assertEquals(BitSet.valueOf(new long[] {0b11}),
+        snapshot.tagged("portfolio-snapshot-test-late"));
+    assertEquals(Map.of("portfolio-snapshot-test-late", new BigDecimal("11.00"),
+        "liquid", new BigDecimal("1.00")), snapshot.totalsByTag(EUR, snapshot.all()));
+  }
+}
@@ -0,0 +1,77 @@
+package patrimoinecom.ketrika.patrimoine.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.analytics.RevaluationEngine;
+import com.ketrika.patrimoine.analytics.RevaluationResults;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.MarketValuation;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.Person;
+import com.ketrika.patrimoine.models.liabilities.GeneralLiability;
+
+class RevaluationEngineTest {
+
+  @Test
+  @DisplayName("Computes the totals of every person in list order")
+  void testRevalue() {
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      Person person = new Person("First" + i, "Last" + i, EGender.MASCULINE);
+      person.addAsset(new GeneralAsset("cash", new FixedValuation<>(BigDecimal.valueOf(i))));
+      person.addAsset(new GeneralAsset("car", new FixedValuation<>(BigDecimal.TEN)));
+      person.addLiability(new GeneralLiability("loan", BigDecimal.ONE));
+      persons.add(person);
+    }
+
+    RevaluationResults results = new RevaluationEngine().revalue(persons);
+
+    assertEquals(1_000, results.size());
+    assertEquals(0, results.failed());
+    for (int i = 0; i < persons.size(); i++) {
+      assertSame(persons.get(i), results.person(i));
+      assertEquals(BigDecimal.valueOf((i + 10) * 100L, 2), results.assets(i));
+      assertEquals(new BigDecimal("1.00"), results.liabilities(i));
+      assertEquals(BigDecimal.valueOf((i + 9) * 100L, 2), results.netWorth(i));
+    }
+  }
+
+  @Test
+  @DisplayName("Keeps totals exactly when they do not fit the scale")
+  void testTotalsOutsideTheScale() {
+    Person fine = new Person("Alice", "Brown", EGender.FEMININE);
+    fine.addAsset(new GeneralAsset("dust", new FixedValuation<>(new BigDecimal("0.001"))));
+    fine.addLiability(new GeneralLiability("loan", BigDecimal.ONE));
+    Person large = new Person("Bob", "Brown", EGender.MASCULINE);
+    large.addAsset(new GeneralAsset("estate", new FixedValuation<>(new BigDecimal("1e20"))));
+
+    RevaluationResults results = new RevaluationEngine().revalue(List.of(fine, large));
+
+    assertEquals(new BigDecimal("0.001"), results.assets(0));
+    assertEquals(new BigDecimal("1.00"), results.liabilities(0));
+    assertEquals(new BigDecimal("-0.999"), results.netWorth(0));
+    assertEquals(0, new BigDecimal("1e20").compareTo(results.netWorth(1)));
+  }
+
+  @Test
+  @DisplayName("Leaves a person without totals when a valuation fails")
+  void testFailedValuation() {
+    Person person = new Person("Alice", "Brown", EGender.FEMININE);
+    person.addAsset(new GeneralAsset("wallet",
+        new MarketValuation<>(symbol -> Optional.empty(), "BTC", null, asset -> 1)));
+
+    RevaluationResults results = new RevaluationEngine().revalue(List.of(person));
+
+    assertEquals(1, results.failed());
+    assertNull(results.assets(0));
+    assertNull(results.netWorth(0));
+  }
+}
@@ -0,0 +1,88 @@
+package patrimoinecom.ketrika.patrimoine.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.analytics.RoaringIdSet;
+
+class RoaringIdSetTest {
+
+  /**
+   * Random ids over a few groups, dense in some and sparse in others.
+   */
+  private static BitSet randomIds(Random random) {
+    BitSet ids = new BitSet();
+    for (int group = 0; group < 6; group++) {
+      double density = random.nextInt(3) == 0 ? 0.5 : 0.01;
+      for (int low = 0; low < 1 << 16; low++) {
+        if (random.nextDouble() < density) {
+          ids.set((group << 16) | low);
+        }
+      }
+    }
+    return ids;
+  }
+
+  private static RoaringIdSet toSet(BitSet ids) {
+    return RoaringIdSet.of(ids.stream().toArray());
+  }
+
+  @Test
+  @DisplayName("Keeps the union of overlapping arrays as an array")
+  void testOverlappingUnionStaysCompact() {
+    RoaringIdSet low = RoaringIdSet.of(IntStream.range(0, 3000).toArray());
+    RoaringIdSet high = RoaringIdSet.of(IntStream.range(1000, 4000).toArray());
+    RoaringIdSet union = low.or(high);
+
+    assertEquals(4000, union.cardinality());
+    assertEquals(RoaringIdSet.range(4000).sizeInBytes(), union.sizeInBytes());
+    assertEquals(2 + 4000 * 2, union.sizeInBytes());
+  }
+
+  @Test
+  @DisplayName("Matches BitSet for AND, OR and AND NOT over sparse and dense groups")
+  void testOperations() {
+    Random random = new Random(7);
+    for (int round = 0; round < 5; round++) {
+      BitSet left = randomIds(random);
+      BitSet right = randomIds(random);
+      RoaringIdSet a = toSet(left);
+      RoaringIdSet b = toSet(right);
+
+      BitSet and = (BitSet) left.clone();
+      and.and(right);
+      BitSet or = (BitSet) left.clone();
+      or.or(right);
+      BitSet andNot = (BitSet) left.clone();
+      andNot.andNot(right);
+
+      assertArrayEquals(left.stream().toArray(), a.toArray());
+      assertArrayEquals(and.stream().toArray(), a.and(b).toArray());
+      assertArrayEquals(or.stream().toArray(), a.or(b).toArray());
+      assertArrayEquals(andNot.stream().toArray(), a.andNot(b).toArray());
+      assertEquals(or.cardinality(), a.or(b).cardinality());
+    }
+  }
+
+  @Test
+  @DisplayName("Answers membership and rejects unordered builder input")
+  void testContainsAndBuilder() {
+    RoaringIdSet set = RoaringIdSet.of(70_000, 3, 3, 1 << 20);
+
+    assertTrue(set.contains(3));
+    assertTrue(set.contains(70_000));
+    assertFalse(set.contains(4));
+    assertFalse(set.contains(-3));
+    assertEquals(3, set.cardinality());
+    assertTrue(RoaringIdSet.empty().and(set).isEmpty());
+    assertEquals(100_000, RoaringIdSet.range(100_000).cardinality());
+    assertThrows(IllegalArgumentException.class, () -> new RoaringIdSet.Builder().add(5).add(5));
+  }
+}
@@ -0,0 +1,48 @@
+package patrimoinecom.ketrika.patrimoine.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.analytics.TagIndex;
+import com.ketrika.patrimoine.models.assets.BankAccountAsset;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.Person;
+
+class TagIndexTest {
+
+  private static BankAccountAsset account(String value, String... tags) {
+    return new BankAccountAsset.Builder().name("Account").iban("IBAN")
+        .valuation(new FixedValuation<>(new BigDecimal(value)))
+        .tags(List.of(tags))
+        .build();
+  }
+
+  @Test
+  @DisplayName("Answers AND, OR and NOT queries and totals by tag")
+  void testQueries() {
+    Person alice = new Person("Alice", "Brown", EGender.FEMININE);
+    alice.addAsset(account("100", "liquid"));
+    alice.addAsset(account("200", "liquid", "risky"));
+    Person bob = new Person("Bob", "Smith", EGender.MASCULINE);
+    bob.addAsset(account("400", "risky"));
+    bob.addAsset(account("800"));
+
+    TagIndex index = TagIndex.of(List.of(alice, bob));
+
+    assertArrayEquals(new int[] {1}, index.allOf("liquid", "risky").toArray());
+    assertArrayEquals(new int[] {0, 1, 2}, index.anyOf("liquid", "risky").toArray());
+    assertArrayEquals(new int[] {2, 3}, index.noneOf("liquid").toArray());
+    assertSame(bob, index.owner(2));
+    assertEquals(new BigDecimal("1200"), index.total(index.noneOf("liquid")));
+    assertEquals(Map.of("liquid", new BigDecimal("300"), "risky", new BigDecimal("600")),
+        index.totalsByTag(index.all()));
+    assertEquals(Map.of("risky", new BigDecimal("400")),
+        index.totalsByTag(index.tagged("risky").andNot(index.tagged("liquid"))));
+  }
+}
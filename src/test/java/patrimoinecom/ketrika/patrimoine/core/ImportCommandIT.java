@@ -2,12 +2,19 @@ package patrimoinecom.ketrika.patrimoine.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.analytics.TagIndex;
 import com.ketrika.patrimoine.core.ImportCommand;
 import com.ketrika.patrimoine.models.generals.AssetsCalculation;
 import com.ketrika.patrimoine.models.generals.EGender;
@@ -76,4 +83,243 @@ class ImportCommandIT {
     // -------- Total Assets --------
     assertTrue(person.calculate(new AssetsCalculation()).compareTo(BigDecimal.valueOf(1500)) == 0);
   }
+
+  @Test
+  void testTreeAndStreamingModesImportTheSamePersons() throws Exception {
+    URL resource = getClass().getClassLoader().getResource("import.json");
+    assertNotNull(resource, "import.json must exist under src/test/resources");
+    String path = new File(resource.toURI()).getAbsolutePath();
+
+    ImportCommand tree = new ImportCommand();
+    assertEquals(0, new CommandLine(tree).execute("-f", path, "-m", "TREE"));
+
+    ImportCommand streaming = new ImportCommand();
+    assertEquals(0, new CommandLine(streaming).execute("-f", path, "-m", "STREAMING"));
+
+    assertEquals(tree.getPersons().size(), streaming.getPersons().size());
+    assertEquals(tree.getPersons().get(0).getFirstName(),
+        streaming.getPersons().get(0).getFirstName());
+  }
+
+  @Test
+  void testImportWithSingleEntryInFlight() throws Exception {
+    URL resource = getClass().getClassLoader().getResource("import.json");
+    assertNotNull(resource, "import.json must exist under src/test/resources");
+
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command)
+        .execute("-f", new File(resource.toURI()).getAbsolutePath(), "--max-in-flight", "1");
+
+    assertEquals(0, exitCode);
+    assertEquals(1, command.getPersons().size());
+  }
+
+  @Test
+  void testRejectsNonPositiveMaxInFlight() throws Exception {
+    URL resource = getClass().getClassLoader().getResource("import.json");
+    assertNotNull(resource, "import.json must exist under src/test/resources");
+
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command)
+        .execute("-f", new File(resource.toURI()).getAbsolutePath(), "--max-in-flight", "0");
+
+    assertEquals(1, exitCode);
+  }
+
+  @Test
+  void testImportNdjsonChunkedKeepsOrder() throws Exception {
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command)
+        .execute("-f", resourcePath("import.ndjson"), "--keep-order");
+
+    assertEquals(0, exitCode);
+    List<Person> persons = command.getPersons();
+    assertEquals(3, persons.size());
+    assertEquals("Alice", persons.get(0).getFirstName());
+    assertEquals("Bob", persons.get(1).getFirstName());
+    assertEquals("Carol", persons.get(2).getFirstName());
+  }
+
+  @Test
+  void testImportNdjsonStreaming() throws Exception {
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command)
+        .execute("-f", resourcePath("import.ndjson"), "-m", "STREAMING");
+
+    assertEquals(0, exitCode);
+    assertEquals(3, command.getPersons().size());
+    assertEquals("Carol", command.getPersons().get(2).getFirstName());
+  }
+
+  @Test
+  void testChunkedModeRejectsJsonArray() throws Exception {
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command)
+        .execute("-f", resourcePath("import.json"), "-m", "CHUNKED");
+
+    assertEquals(1, exitCode);
+  }
+
+  @Test
+  void testImportMappedArrayAndNdjson() throws Exception {
+    ImportCommand array = new ImportCommand();
+    assertEquals(0, new CommandLine(array).execute("-f", resourcePath("import.json"), "-m", "MAPPED"));
+    assertEquals(1, array.getPersons().size());
+    assertEquals("Primary Account", array.getPersons().get(0).getAssets().get(0).name());
+
+    ImportCommand ndjson = new ImportCommand();
+    assertEquals(0, new CommandLine(ndjson)
+        .execute("-f", resourcePath("import.ndjson"), "-m", "MAPPED", "--keep-order"));
+    assertEquals(3, ndjson.getPersons().size());
+    assertEquals("Bob", ndjson.getPersons().get(1).getFirstName());
+    assertEquals(3, ndjson.getStats().records());
+  }
+
+  @Test
+  void testImportDirectoryMergesEveryFile() throws Exception {
+    String directory = new File(resourcePath("import.json")).getParent();
+
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command).execute("-f", directory, "--keep-order");
+
+    assertEquals(0, exitCode);
+    assertEquals(4, command.getPersons().size());
+    assertEquals(2, command.getFileStats().size());
+    assertEquals(4, command.getStats().records());
+  }
+
+  @Test
+  void testImportGlob() throws Exception {
+    String directory = new File(resourcePath("import.json")).getParent();
+
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command).execute("-f", directory + "/*.ndjson");
+
+    assertEquals(0, exitCode);
+    assertEquals(3, command.getPersons().size());
+  }
+
+  @Test
+  void testResumeSkipsCompletedFiles() throws Exception {
+    File journal = File.createTempFile("import", ".checkpoint");
+    journal.deleteOnExit();
+
+    ImportCommand first = new ImportCommand();
+    assertEquals(0, new CommandLine(first)
+        .execute("-f", resourcePath("import.ndjson"), "-m", "STREAMING", "--checkpoint",
+            journal.getPath(), "--checkpoint-every", "1"));
+    assertEquals(3, first.getPersons().size());
+
+    ImportCommand resumed = new ImportCommand();
+    assertEquals(0, new CommandLine(resumed)
+        .execute("-f", resourcePath("import.ndjson"), "--checkpoint", journal.getPath(), "--resume"));
+    assertTrue(resumed.getPersons().isEmpty());
+  }
+
+  @Test
+  void testJournalCountsRecordsRatherThanPersons() throws Exception {
+    List<String> lines = Files.readAllLines(Path.of(resourcePath("import.ndjson")));
+    File input = File.createTempFile("import", ".ndjson");
+    input.deleteOnExit();
+    Files.write(input.toPath(), List.of(lines.get(0), "{\"firstname\": \"Nobody\"}", lines.get(2)));
+
+    for (String mode : List.of("STREAMING", "CHUNKED", "MAPPED")) {
+      File journal = File.createTempFile("import", ".checkpoint");
+      journal.deleteOnExit();
+
+      ImportCommand command = new ImportCommand();
+      assertEquals(0, new CommandLine(command)
+          .execute("-f", input.getPath(), "-m", mode, "--checkpoint", journal.getPath()));
+      assertEquals(2, command.getPersons().size());
+
+      String[] checkpoint = Files.readAllLines(journal.toPath()).get(0).split("\t");
+      assertEquals("3", checkpoint[2], mode);
+      assertEquals("true", checkpoint[3], mode);
+    }
+  }
+
+  @Test
+  void testRejectsNdjsonLinesWithTrailingGarbage() throws Exception {
+    List<String> lines = Files.readAllLines(Path.of(resourcePath("import.ndjson")));
+    File input = File.createTempFile("import", ".ndjson");
+    input.deleteOnExit();
+    Files.write(input.toPath(), List.of(lines.get(0), lines.get(1) + " garbage", lines.get(2)));
+
+    for (String mode : List.of("CHUNKED", "MAPPED")) {
+      ImportCommand command = new ImportCommand();
+      assertEquals(0, new CommandLine(command).execute("-f", input.getPath(), "-m", mode,
+          "--keep-order"));
+      assertEquals(List.of("Alice", "Carol"),
+          command.getPersons().stream().map(Person::getFirstName).toList(), mode);
+    }
+  }
+
+  @Test
+  void testIndexesTagsWhileImporting() throws Exception {
+    File input = File.createTempFile("import", ".ndjson");
+    input.deleteOnExit();
+    Files.write(input.toPath(), List.of(
+        "{\"firstname\": \"Alice\", \"lastname\": \"Brown\", \"gender\": \"F\", \"assets\": ["
+            + "{\"type\": \"bank\", \"name\": \"Main\", \"iban\": \"IBAN1\", \"value\": \"100\","
+            + " \"tags\": [\"liquid\"]}]}",
+        "{\"firstname\": \"Bob\", \"lastname\": \"Smith\", \"gender\": \"M\", \"assets\": ["
+            + "{\"type\": \"bank\", \"name\": \"Savings\", \"iban\": \"IBAN2\", \"value\": \"50\","
+            + " \"tags\": [\"liquid\", \"savings\"]}]}"));
+
+    for (String mode : List.of("STREAMING", "CHUNKED", "MAPPED")) {
+      ImportCommand command = new ImportCommand();
+      assertEquals(0, new CommandLine(command)
+          .execute("-f", input.getPath(), "-m", mode, "--index-tags"));
+
+      TagIndex index = command.getTagIndex();
+      assertEquals(2, index.size(), mode);
+      assertEquals(2, index.tagged("liquid").cardinality(), mode);
+      assertEquals(0, new BigDecimal("150").compareTo(index.total(index.tagged("liquid"))), mode);
+      assertEquals("Bob", index.owner(index.tagged("savings").toArray()[0]).getFirstName(), mode);
+    }
+    assertNull(new ImportCommand().getTagIndex());
+  }
+
+  @Test
+  void testResumeRequiresCheckpoint() throws Exception {
+    assertEquals(1, new CommandLine(new ImportCommand())
+        .execute("-f", resourcePath("import.ndjson"), "--resume"));
+  }
+
+  @Test
+  void testImportGzippedNdjson() throws Exception {
+    File gzipped = File.createTempFile("import", ".ndjson.gz");
+    gzipped.deleteOnExit();
+    try (OutputStream out = new GZIPOutputStream(new FileOutputStream(gzipped))) {
+      Files.copy(Path.of(resourcePath("import.ndjson")), out);
+    }
+
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command).execute("-f", gzipped.getPath(), "-m", "CHUNKED");
+
+    assertEquals(0, exitCode);
+    assertEquals(List.of("Alice", "Bob", "Carol"),
+        command.getPersons().stream().map(Person::getFirstName).toList());
+  }
+
+  @Test
+  void testMappedImportFailsWhenARegionIsCorrupt() throws Exception {
+    File corrupt = File.createTempFile("corrupt", ".json");
+    corrupt.deleteOnExit();
+    Files.writeString(corrupt.toPath(), """
+        [{"firstname": "Alice", "lastname": "Brown", "gender": "F"},
+         {"firstname": "Bob" "lastname": }]""");
+
+    ImportCommand command = new ImportCommand();
+    int exitCode = new CommandLine(command).execute("-f", corrupt.getPath(), "-m", "MAPPED");
+
+    assertEquals(1, exitCode, "Records lost with a corrupt region must fail the import");
+    assertTrue(command.getFileStats().isEmpty());
+  }
+
+  private String resourcePath(String name) throws Exception {
+    URL resource = getClass().getClassLoader().getResource(name);
+    assertNotNull(resource, name + " must exist under src/test/resources");
+    return new File(resource.toURI()).getAbsolutePath();
+  }
 }
@@ -0,0 +1,53 @@
+package patrimoinecom.ketrika.patrimoine.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.core.PersonPipeline;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.Person;
+
+class PersonPipelineTest {
+
+  @Test
+  @DisplayName("Collects every parsed person in submission order")
+  void testCollectsInOrder() throws InterruptedException {
+    List<String> names = new ArrayList<>();
+    PersonPipeline<String> pipeline = new PersonPipeline<>(
+        name -> Optional.of(new Person(name, "Doe", EGender.OTHER)), 2,
+        person -> names.add(person.getFirstName()));
+    try (pipeline) {
+      for (int i = 0; i < 10; i++) {
+        pipeline.submit("P" + i);
+      }
+    }
+
+    assertEquals(10, pipeline.getImported());
+    assertEquals(List.of("P0", "P1", "P2", "P3", "P4", "P5", "P6", "P7", "P8", "P9"), names);
+  }
+
+  @Test
+  @DisplayName("Fails instead of hanging when the sink throws")
+  void testFailingSinkAbortsThePipeline() {
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+      IllegalStateException failure = assertThrows(IllegalStateException.class, () -> {
+        try (PersonPipeline<String> pipeline = new PersonPipeline<>(
+            name -> Optional.of(new Person(name, "Doe", EGender.OTHER)), 2,
+            person -> {
+              throw new IllegalArgumentException("sink is full");
+            })) {
+          for (int i = 0; i < 1_000; i++) {
+            pipeline.submit("P" + i);
+          }
+        }
+      });
+      assertEquals("sink is full", failure.getCause().getMessage());
+    });
+  }
+}
@@ -0,0 +1,42 @@
+package patrimoinecom.ketrika.patrimoine.models.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.IValuation;
+import com.ketrika.patrimoine.models.assets.MemoizedValuation;
+import com.ketrika.patrimoine.models.assets.ValuationEpoch;
+
+class MemoizedValuationTest {
+
+  @Test
+  @DisplayName("Computes once per epoch and again after a bump")
+  void testCachesUntilEpochBump() {
+    AtomicInteger calls = new AtomicInteger();
+    IValuation<GeneralAsset> counting = asset -> BigDecimal.valueOf(calls.incrementAndGet());
+    GeneralAsset asset = new GeneralAsset("counted", counting.memoized());
+
+    assertEquals(BigDecimal.ONE, asset.value());
+    assertEquals(BigDecimal.ONE, asset.value());
+    assertEquals(1, calls.get());
+
+    ValuationEpoch.bump();
+    assertEquals(BigDecimal.valueOf(2), asset.value());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  @DisplayName("Does not wrap fixed or already memoized valuations")
+  void testDoesNotWrapTwice() {
+    IValuation<GeneralAsset> fixed = new FixedValuation<>(BigDecimal.TEN);
+    assertSame(fixed, MemoizedValuation.of(fixed));
+
+    IValuation<GeneralAsset> memoized = MemoizedValuation.of(asset -> BigDecimal.ONE);
+    assertSame(memoized, memoized.memoized());
+  }
+}
@@ -0,0 +1,68 @@
+package patrimoinecom.ketrika.patrimoine.models.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.assets.BankAccountAsset;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.TagDictionary;
+import com.ketrika.patrimoine.models.assets.TagSet;
+
+class TagSetTest {
+
+  @Test
+  @DisplayName("Interns each tag once to a stable id")
+  void testDictionary() {
+    int id = TagDictionary.id("tag-set-test-liquid");
+
+    assertEquals(id, TagDictionary.id(new String("tag-set-test-liquid")));
+    assertEquals("tag-set-test-liquid", TagDictionary.name(id));
+    assertTrue(TagDictionary.find("tag-set-test-unknown").isEmpty());
+    assertThrows(IndexOutOfBoundsException.class, () -> TagDictionary.name(-1));
+  }
+
+  @Test
+  @DisplayName("Reads as a list of distinct tags in id order, shared between equal sets")
+  void testSharedSets() {
+    int first = TagDictionary.id("tag-set-test-a");
+    TagDictionary.id("tag-set-test-b");
+
+    TagSet tags = TagSet.of(List.of("tag-set-test-b", "tag-set-test-a", "tag-set-test-b"));
+
+    assertEquals(List.of("tag-set-test-a", "tag-set-test-b"), tags);
+    assertEquals(List.of("tag-set-test-a", "tag-set-test-b").hashCode(), tags.hashCode());
+    assertTrue(tags.containsId(first));
+    assertTrue(tags.contains("tag-set-test-b"));
+    assertFalse(tags.contains("tag-set-test-unknown"));
+    assertSame(tags, TagSet.of(Arrays.asList("tag-set-test-a", "tag-set-test-b")));
+    assertSame(TagSet.EMPTY, TagSet.of(null));
+    assertThrows(UnsupportedOperationException.class, () -> tags.add("other"));
+  }
+
+  @Test
+  @DisplayName("Assets built with the same tags share one tag set")
+  void testAssetsShareTags() {
+    BankAccountAsset first = bank(List.of("tag-set-test-liquid"));
+    BankAccountAsset second = bank(List.of(new String("tag-set-test-liquid")));
+
+    assertEquals(List.of("tag-set-test-liquid"), first.tags());
+    assertSame(first.tags(), second.tags());
+    assertTrue(bank(null).tags().isEmpty());
+  }
+
+  private static BankAccountAsset bank(List<String> tags) {
+    return new BankAccountAsset.Builder()
+        .name("Account")
+        .iban("IBAN")
+        .valuation(new FixedValuation<>(BigDecimal.ONE))
+        .tags(tags)
+        .build();
+  }
+}
@@ -0,0 +1,87 @@
+package patrimoinecom.ketrika.patrimoine.models.currencies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.Currency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.currencies.ExchangeRateHistory;
+import com.ketrika.patrimoine.utils.UtilsCurrency;
+
+class ExchangeRateHistoryTest {
+
+  private static final Currency MGA = Currency.getInstance("MGA");
+  private static final Currency EUR = Currency.getInstance("EUR");
+
+  private final ExchangeRateHistory history = new ExchangeRateHistory.Builder()
+      .rate(EUR, MGA, LocalDate.of(2025, 2, 1), new BigDecimal("5100"))
+      .rate(EUR, MGA, LocalDate.of(2025, 1, 1), new BigDecimal("5000"))
+      .rate(EUR, MGA, LocalDate.of(2025, 3, 1), new BigDecimal("5200"))
+      .build();
+
+  @Test
+  @DisplayName("Looks up the latest rate on or before a date")
+  void testAsOf() {
+    assertTrue(history.rate(EUR, MGA, LocalDate.of(2024, 12, 31)).isEmpty());
+    assertEquals(0, new BigDecimal("5000")
+        .compareTo(history.rate(EUR, MGA, LocalDate.of(2025, 1, 31)).orElseThrow()));
+    assertEquals(0, new BigDecimal("5100")
+        .compareTo(history.rate(EUR, MGA, LocalDate.of(2025, 2, 1)).orElseThrow()));
+    assertEquals(0, new BigDecimal("5200")
+        .compareTo(history.rate(EUR, MGA, LocalDate.of(2030, 1, 1)).orElseThrow()));
+    assertEquals(new BigDecimal("2.00"),
+        history.convert(new BigDecimal("10200"), MGA, EUR, LocalDate.of(2025, 2, 15)));
+    assertThrows(IllegalArgumentException.class,
+        () -> history.convert(BigDecimal.ONE, EUR, MGA, LocalDate.of(2024, 1, 1)));
+  }
+
+  @Test
+  @DisplayName("Converts a batch of amounts with one lookup")
+  void testBatch() {
+    BigDecimal[] amounts = {new BigDecimal("1"), new BigDecimal("2.5"), BigDecimal.ZERO};
+    BigDecimal[] results = new BigDecimal[3];
+
+    history.convert(amounts, EUR, MGA, LocalDate.of(2025, 1, 15), results);
+
+    assertArrayEquals(new BigDecimal[] {new BigDecimal("5000.00"), new BigDecimal("12500.00"),
+        new BigDecimal("0.00")}, results);
+  }
+
+  @Test
+  @DisplayName("Keeps every significant digit of small rates")
+  void testSmallRate() {
+    BigDecimal rate = BigDecimal.ONE.divide(new BigDecimal("4900"), MathContext.DECIMAL64);
+    LocalDate date = LocalDate.of(2025, 1, 1);
+    ExchangeRateHistory small = new ExchangeRateHistory.Builder()
+        .rate(MGA, EUR, date, rate)
+        .build();
+    BigDecimal amount = new BigDecimal("1000000000");
+
+    assertEquals(0, rate.compareTo(small.rate(MGA, EUR, date).orElseThrow()));
+    assertEquals(UtilsCurrency.convert(amount, MGA, EUR, rate),
+        small.convert(amount, MGA, EUR, date));
+    assertEquals(new BigDecimal("204081.63"), small.convert(amount, MGA, EUR, date));
+  }
+
+  @Test
+  @DisplayName("Falls back to the inverse pair before the first direct rate")
+  void testInverseCoversEarlierDates() {
+    ExchangeRateHistory mixed = new ExchangeRateHistory.Builder()
+        .rate(EUR, MGA, LocalDate.of(2024, 1, 1), new BigDecimal("5000"))
+        .rate(MGA, EUR, LocalDate.of(2020, 1, 1), new BigDecimal("0.00025"))
+        .build();
+
+    assertEquals(0, new BigDecimal("4000")
+        .compareTo(mixed.rate(EUR, MGA, LocalDate.of(2022, 1, 1)).orElseThrow()));
+    assertEquals(new BigDecimal("40000.00"),
+        mixed.convert(BigDecimal.TEN, EUR, MGA, LocalDate.of(2022, 1, 1)));
+    assertEquals(0, new BigDecimal("5000")
+        .compareTo(mixed.rate(EUR, MGA, LocalDate.of(2024, 6, 1)).orElseThrow()));
+    assertTrue(mixed.rate(EUR, MGA, LocalDate.of(2019, 1, 1)).isEmpty());
+  }
+}
@@ -0,0 +1,61 @@
+package patrimoinecom.ketrika.patrimoine.models.currencies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.math.BigDecimal;
+import java.util.Currency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.assets.BankAccountAsset;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.currencies.ExchangeRateMatrix;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.MultiCurrencyAssetsCalculation;
+import com.ketrika.patrimoine.models.generals.Person;
+
+class ExchangeRateMatrixTest {
+
+  private static final Currency MGA = Currency.getInstance("MGA");
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final Currency USD = Currency.getInstance("USD");
+  private static final Currency GBP = Currency.getInstance("GBP");
+
+  private final ExchangeRateMatrix rates = new ExchangeRateMatrix.Builder()
+      .base(EUR)
+      .rate(EUR, MGA, new BigDecimal("5000"))
+      .rate(USD, EUR, new BigDecimal("0.8"))
+      .build();
+
+  @Test
+  @DisplayName("Resolves direct, inverse and triangulated rates")
+  void testRates() {
+    assertEquals(new BigDecimal("5000"), rates.rate(EUR, MGA));
+    assertEquals(0, new BigDecimal("1.25").compareTo(rates.rate(EUR, USD)));
+    assertEquals(0, new BigDecimal("4000").compareTo(rates.rate(USD, MGA)));
+    assertEquals(0, new BigDecimal("0.00025").compareTo(rates.rate(MGA, USD)));
+    assertEquals(new BigDecimal("2.50"), rates.convert(new BigDecimal("10000"), MGA, USD));
+  }
+
+  @Test
+  @DisplayName("Rejects unknown currencies")
+  void testMissingRate() {
+    assertFalse(rates.supports(GBP, EUR));
+    assertThrows(IllegalArgumentException.class, () -> rates.rate(GBP, EUR));
+  }
+
+  @Test
+  @DisplayName("Totals assets in a reporting currency")
+  void testMultiCurrencyAssets() {
+    Person person = new Person("Alice", "Brown", EGender.FEMININE);
+    person.addAsset(new GeneralAsset("cash", new FixedValuation<>(new BigDecimal("500000"))));
+    person.addAsset(new BankAccountAsset.Builder().name("Euro account").iban("IBAN1")
+        .currency(EUR).valuation(new FixedValuation<>(new BigDecimal("100"))).build());
+    person.addAsset(new BankAccountAsset.Builder().name("Dollar account").iban("IBAN2")
+        .currency(USD).valuation(new FixedValuation<>(new BigDecimal("50"))).build());
+
+    assertEquals(new BigDecimal("240.00"),
+        person.calculate(new MultiCurrencyAssetsCalculation(rates, EUR)));
+  }
+}
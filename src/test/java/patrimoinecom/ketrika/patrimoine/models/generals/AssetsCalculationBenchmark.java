@@ -0,0 +1,77 @@
+package patrimoinecom.ketrika.patrimoine.models.generals;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.generals.AssetsCalculation;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.FixedPointAssetsCalculation;
+import com.ketrika.patrimoine.models.generals.Person;
+
+/**
+ * Compares the {@link BigDecimal} asset total with the fixed-point one, per person.
+ * <p>
+ * Values are either integral or carry the two fraction digits of the currency, as the two take a
+ * different conversion path. Run {@link #main(String[])} after {@code mvn test-compile}: the GC
+ * profiler reports the bytes allocated per calculation as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetsCalculationBenchmark {
+
+  @Param({"10", "1000"})
+  public int assets;
+
+  @Param({"0", "2"})
+  public int fractionDigits;
+
+  private final AssetsCalculation bigDecimal = new AssetsCalculation();
+  private final FixedPointAssetsCalculation fixedPoint = new FixedPointAssetsCalculation();
+  private Person person;
+
+  @Setup
+  public void setUp() {
+    person = new Person("Alice", "Brown", EGender.FEMININE);
+    for (int i = 0; i < assets; i++) {
+      person.addAsset(new GeneralAsset("Account " + i,
+          new FixedValuation<>(BigDecimal.valueOf(150_000 + i, fractionDigits))));
+    }
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimal() {
+    return person.calculate(bigDecimal);
+  }
+
+  @Benchmark
+  public BigDecimal fixedPoint() {
+    return person.calculate(fixedPoint);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(AssetsCalculationBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
@@ -0,0 +1,68 @@
+package patrimoinecom.ketrika.patrimoine.models.generals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.ValuationEpoch;
+import com.ketrika.patrimoine.models.generals.AssetsCalculation;
+import com.ketrika.patrimoine.models.generals.BalanceSheet;
+import com.ketrika.patrimoine.models.generals.BalanceSheetCalculation;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.LiabilitiesCalculation;
+import com.ketrika.patrimoine.models.generals.NetWorthCalculation;
+import com.ketrika.patrimoine.models.generals.Person;
+import com.ketrika.patrimoine.models.liabilities.GeneralLiability;
+
+class BalanceSheetCalculationTest {
+
+  @Test
+  @DisplayName("Computes every total in one pass, consistently with the single calculations")
+  void testBalanceSheet() {
+    AtomicInteger valuations = new AtomicInteger();
+    Person person = new Person("Alice", "Brown", EGender.FEMININE);
+    person.addAsset(new GeneralAsset("house", asset -> {
+      valuations.incrementAndGet();
+      return new BigDecimal("250000");
+    }));
+    person.addAsset(new GeneralAsset("cash", asset -> new BigDecimal("1500.50")));
+    person.addLiability(new GeneralLiability("mortgage", new BigDecimal("180000")));
+    person.addLiability(new GeneralLiability("card", new BigDecimal("500.25")));
+
+    BalanceSheet sheet = new BalanceSheetCalculation().evaluate(person);
+
+    assertEquals(1, valuations.get());
+    assertEquals(2, sheet.assetCount());
+    assertEquals(2, sheet.liabilityCount());
+    assertEquals(new BigDecimal("251500.50"), sheet.assets());
+    assertEquals(new BigDecimal("180500.25"), sheet.liabilities());
+    assertEquals(new BigDecimal("71000.25"), sheet.netWorth());
+    assertEquals(sheet.assets(), person.calculate(new AssetsCalculation()));
+    assertEquals(sheet.liabilities(), person.calculate(new LiabilitiesCalculation()));
+    assertEquals(sheet.netWorth(), person.calculate(new NetWorthCalculation()));
+  }
+
+  @Test
+  @DisplayName("Keeps running totals up to date until the valuation epoch changes")
+  void testRunningTotals() {
+    AtomicInteger valuations = new AtomicInteger();
+    Person person = new Person("Bob", "Smith", EGender.MASCULINE);
+    person.addAsset(new GeneralAsset("cash", asset -> {
+      valuations.incrementAndGet();
+      return BigDecimal.TEN;
+    }));
+
+    assertEquals(BigDecimal.TEN, person.getNetWorth());
+    person.addAsset(new GeneralAsset("car", asset -> BigDecimal.ONE));
+    person.addLiability(new GeneralLiability("loan", new BigDecimal("4")));
+    assertEquals(new BigDecimal("7"), person.getNetWorth());
+    assertEquals(1, valuations.get());
+
+    ValuationEpoch.bump();
+    assertEquals(new BigDecimal("7"), person.getNetWorth());
+    assertEquals(2, valuations.get());
+    assertEquals(2, person.getBalanceSheet().assetCount());
+  }
+}
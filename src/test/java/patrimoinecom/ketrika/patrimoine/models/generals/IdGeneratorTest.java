@@ -0,0 +1,57 @@
+package patrimoinecom.ketrika.patrimoine.models.generals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.IIdGenerator;
+import com.ketrika.patrimoine.models.generals.Person;
+
+class IdGeneratorTest {
+
+  @Test
+  @DisplayName("Generates version 7 UUIDs that sort by creation order")
+  void testTimeOrdered() {
+    IIdGenerator generator = IIdGenerator.timeOrdered();
+    List<String> ids = IntStream.range(0, 10_000).mapToObj(i -> generator.nextId()).toList();
+
+    assertEquals(ids, ids.stream().sorted().toList());
+    UUID uuid = UUID.fromString(ids.get(0));
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+  }
+
+  @Test
+  @DisplayName("Generates unique ids across threads")
+  void testUniqueAcrossThreads() {
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    IntStream.range(0, 100_000).parallel()
+        .forEach(i -> ids.add(IIdGenerator.timeOrdered().nextId()));
+    assertEquals(100_000, ids.size());
+  }
+
+  @Test
+  @DisplayName("Derives the same id from the same content")
+  void testNameBased() {
+    assertEquals(IIdGenerator.nameBased("alice|brown|1990-01-01"),
+        IIdGenerator.nameBased("alice|brown|1990-01-01"));
+    assertNotEquals(IIdGenerator.nameBased("alice"), IIdGenerator.nameBased("bob"));
+
+    Person person = new Person.Builder()
+        .id(IIdGenerator.nameBased("alice"))
+        .firstName("Alice")
+        .lastName("Brown")
+        .gender(EGender.FEMININE)
+        .build();
+    assertEquals(IIdGenerator.nameBased("alice"), person.getId());
+    assertTrue(new Person("Bob", "Smith", EGender.MASCULINE).getId().compareTo(
+        new Person("Carl", "Smith", EGender.MASCULINE).getId()) < 0);
+  }
+}
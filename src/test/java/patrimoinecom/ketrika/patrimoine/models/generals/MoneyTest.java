@@ -0,0 +1,96 @@
+package patrimoinecom.ketrika.patrimoine.models.generals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.generals.AssetsCalculation;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.FixedPointAssetsCalculation;
+import com.ketrika.patrimoine.models.generals.FixedPointSum;
+import com.ketrika.patrimoine.models.generals.Money;
+import com.ketrika.patrimoine.models.generals.Person;
+
+class MoneyTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final Currency JPY = Currency.getInstance("JPY");
+
+  @Test
+  @DisplayName("Converts exactly at the scale of the currency")
+  void testConversion() {
+    assertEquals(150_050, Money.of(new BigDecimal("1500.5"), EUR).minorUnits());
+    assertEquals(1500, Money.of(new BigDecimal("1500"), JPY).minorUnits());
+    assertEquals(new BigDecimal("1500.50"), Money.of(new BigDecimal("1500.5"), EUR).toBigDecimal());
+    assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.001"), EUR));
+    assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E20"), EUR));
+  }
+
+  @Test
+  @DisplayName("Converts amounts of any precision like movePointRight")
+  void testConversionMatchesMovePointRight() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      int scale = random.nextInt(18);
+      long bound = (long) Math.pow(10, 1 + random.nextInt(18 - scale));
+      BigDecimal amount = BigDecimal.valueOf(random.nextLong(1 - bound, bound),
+          random.nextInt(scale + 1));
+      assertTrue(Money.fitsMinorUnits(amount, scale));
+      assertEquals(amount.movePointRight(scale).longValueExact(),
+          Money.toMinorUnits(amount, scale), amount + " at scale " + scale);
+    }
+    assertFalse(Money.fitsMinorUnits(new BigDecimal("0.001"), 2));
+    assertFalse(Money.fitsMinorUnits(new BigDecimal("1E17"), 2));
+    assertEquals(150, Money.toMinorUnits(new BigDecimal("1.500"), 2));
+  }
+
+  @Test
+  @DisplayName("Checks overflow and currency on arithmetic")
+  void testArithmetic() {
+    Money max = new Money(Long.MAX_VALUE, EUR);
+    assertThrows(ArithmeticException.class, () -> max.plus(new Money(1, EUR)));
+    assertThrows(ArithmeticException.class, () -> max.times(2));
+    assertThrows(IllegalArgumentException.class, () -> max.minus(new Money(1, JPY)));
+    assertEquals(new Money(-5, EUR), new Money(10, EUR).minus(new Money(15, EUR)));
+  }
+
+  @Test
+  @DisplayName("Falls back to BigDecimal for amounts finer than the scale")
+  void testSumFallback() {
+    var sum = new FixedPointSum(EUR).add(new BigDecimal("1.25")).add(new BigDecimal("0.005"))
+        .add(new BigDecimal("2.50"));
+    assertFalse(sum.isFixedPoint());
+    assertEquals(new BigDecimal("3.755"), sum.total());
+
+    var large = new FixedPointSum(EUR);
+    for (int i = 0; i < 20; i++) {
+      large.add(new BigDecimal("9000000000000000.00"));
+    }
+    assertEquals(0, new BigDecimal("180000000000000000").compareTo(large.total()));
+  }
+
+  @Test
+  @DisplayName("Matches the BigDecimal asset total")
+  void testMatchesAssetsCalculation() {
+    Random random = new Random(42);
+    Person person = new Person("Alice", "Brown", EGender.FEMININE);
+    for (int i = 0; i < 1_000; i++) {
+      person.addAsset(new GeneralAsset("asset " + i,
+          new FixedValuation<>(BigDecimal.valueOf(random.nextLong(-1_000_000_000L, 1_000_000_000L),
+              random.nextInt(3)))));
+    }
+
+    var sum = new FixedPointSum(EUR);
+    person.getAssets().forEach(asset -> sum.add(asset.value()));
+    assertTrue(sum.isFixedPoint());
+    assertEquals(0, person.calculate(new AssetsCalculation())
+        .compareTo(person.calculate(new FixedPointAssetsCalculation(EUR))));
+  }
+}
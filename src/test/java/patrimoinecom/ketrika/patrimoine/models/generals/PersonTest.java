@@ -0,0 +1,48 @@
+package patrimoinecom.ketrika.patrimoine.models.generals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.assets.FixedValuation;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.generals.EGender;
+import com.ketrika.patrimoine.models.generals.Person;
+
+class PersonTest {
+
+  @Test
+  @DisplayName("Keeps earlier snapshots unchanged while assets are added one by one")
+  void testSnapshots() {
+    Person person = new Person.Builder()
+        .firstName("Alice")
+        .lastName("Brown")
+        .gender(EGender.FEMININE)
+        .addAsset(asset(0))
+        .build();
+    List<IAsset> expected = new ArrayList<>(person.getAssets());
+    List<List<IAsset>> snapshots = new ArrayList<>();
+    for (int i = 1; i < 100; i++) {
+      snapshots.add(person.getAssets());
+      IAsset asset = asset(i);
+      person.addAsset(asset);
+      expected.add(asset);
+    }
+
+    assertEquals(expected, person.getAssets());
+    for (int i = 0; i < snapshots.size(); i++) {
+      assertEquals(expected.subList(0, i + 1), snapshots.get(i));
+      assertEquals(i + 1, snapshots.get(i).toArray().length);
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> snapshots.get(0).get(1));
+    assertThrows(UnsupportedOperationException.class, () -> person.getAssets().add(asset(0)));
+  }
+
+  private static IAsset asset(int value) {
+    return new GeneralAsset("asset " + value, new FixedValuation<>(BigDecimal.valueOf(value)));
+  }
+}
@@ -0,0 +1,59 @@
+package patrimoinecom.ketrika.patrimoine.models.prices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.MarketValuation;
+import com.ketrika.patrimoine.models.prices.PriceFileProvider;
+
+class PriceFileProviderTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  @DisplayName("Reads a CSV price file, skipping the header, comments and malformed lines")
+  void testLoad() throws IOException {
+    Path file = Files.writeString(dir.resolve("prices.csv"), """
+        symbol,price,timestamp
+        # closing prices
+        BTC,65000.5,2025-01-02T17:30:00Z
+        IWDA,92.10,2025-01-02
+        broken
+        """);
+
+    PriceFileProvider prices = PriceFileProvider.load(file);
+
+    assertEquals(2, prices.size());
+    assertEquals(new BigDecimal("65000.5"), prices.price("BTC").orElseThrow().value());
+    assertEquals(Instant.parse("2025-01-02T00:00:00Z"),
+        prices.price("IWDA").orElseThrow().timestamp());
+    assertTrue(prices.price("ETH").isEmpty());
+    assertEquals(new BigDecimal("65000.5"), prices.find("BTC").value());
+    assertNull(prices.find("ETH"));
+  }
+
+  @Test
+  @DisplayName("Revalues market-priced assets after a reload, without rebuilding them")
+  void testReloadRevalues() throws IOException {
+    Path file = Files.writeString(dir.resolve("prices.csv"), "BTC,100\n");
+    PriceFileProvider prices = PriceFileProvider.load(file);
+    GeneralAsset wallet = new GeneralAsset("wallet",
+        new MarketValuation<GeneralAsset>(prices, "BTC", null, asset -> 2).memoized());
+
+    assertEquals(0, new BigDecimal("200").compareTo(wallet.value()));
+
+    Files.writeString(file, "BTC,150\n");
+    prices.reload();
+    assertEquals(0, new BigDecimal("300").compareTo(wallet.value()));
+  }
+}
@@ -0,0 +1,217 @@
+package patrimoinecom.ketrika.patrimoine.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.ketrika.patrimoine.models.assets.BankAccountAsset;
+import com.ketrika.patrimoine.models.assets.CryptoAsset;
+import com.ketrika.patrimoine.models.assets.GeneralAsset;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.models.assets.TrustBeneficiaryAsset;
+import com.ketrika.patrimoine.models.liabilities.ILiability;
+import com.ketrika.patrimoine.models.liabilities.TaxLiability;
+import com.ketrika.patrimoine.models.participations.FundParticipation;
+import com.ketrika.patrimoine.models.participations.IParticipation;
+import com.ketrika.patrimoine.parser.FinancialParsersRegistry;
+import com.ketrika.patrimoine.parser.ITypedJsonParser;
+import com.ketrika.patrimoine.parser.PersonParser;
+import com.ketrika.patrimoine.parser.dto.AssetNodeDto;
+import com.ketrika.patrimoine.parser.dto.BankAssetDto;
+import com.ketrika.patrimoine.parser.dto.PersonDto;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+class FinancialParsersRegistryTest {
+
+  private final FinancialParsersRegistry registry = FinancialParsersRegistry.shared();
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  private IAsset asset(String json) {
+    return registry.parseAsset(mapper.readTree(json)).orElseThrow();
+  }
+
+  @Test
+  @DisplayName("Reads a bank asset with a textual fixed value")
+  void testBankAsset() {
+    IAsset asset = asset("""
+        {"type": "bank", "name": "Primary", "iban": "IBAN1", "value": "1500.00",
+         "currency": "EUR", "tags": ["liquid", " "]}""");
+
+    assertTrue(asset instanceof BankAccountAsset);
+    assertEquals(new BigDecimal("1500.00"), asset.value());
+    assertEquals(Currency.getInstance("EUR"), asset.currency());
+    assertEquals(List.of("liquid"), asset.tags());
+  }
+
+  @Test
+  @DisplayName("Prices a crypto asset as quantity times unit price")
+  void testMultiplicativeValuation() {
+    IAsset asset = asset("""
+        {"type": "crypto", "name": "Wallet", "symbol": "BTC", "quantity": 2,
+         "valuation": {"kind": "multiplicative", "unitPrice": "100.5"}}""");
+
+    assertTrue(asset instanceof CryptoAsset);
+    assertEquals(0, new BigDecimal("201").compareTo(asset.value()));
+  }
+
+  @Test
+  @DisplayName("Discounts a trust payout with the trust valuation")
+  void testTrustValuation() {
+    IAsset asset = asset("""
+        {"type": "trust", "name": "Family trust", "expectedPayout": 1100,
+         "yearsUntilDistribution": 1, "valuation": {"kind": "trust", "discountRate": 0.10}}""");
+
+    assertTrue(asset instanceof TrustBeneficiaryAsset);
+    assertEquals(new BigDecimal("1000.00"), asset.value());
+  }
+
+  @Test
+  @DisplayName("Skips entries with an unsupported valuation or a missing required field")
+  void testInvalidEntries() {
+    assertTrue(registry.parseAsset(mapper.readTree("""
+        {"type": "vehicle", "name": "Car", "registration": "AB-123",
+         "valuation": {"kind": "multiplicative", "unitPrice": 1}}""")).isEmpty());
+    assertTrue(registry.parseAsset(mapper.readTree("""
+        {"type": "etf", "name": "World", "ticker": "IWDA"}""")).isEmpty());
+    assertTrue(registry.parseAsset(mapper.readTree("""
+        {"type": "unknown", "name": "?"}""")).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Dispatches liabilities and participations by type")
+  void testLiabilitiesAndParticipations() {
+    ILiability tax = registry.parseLiability(mapper.readTree("""
+        {"type": "tax", "description": "Income tax", "unpaidAmount": 420,
+         "dueDate": "2025-05-31"}""")).orElseThrow();
+    assertTrue(tax instanceof TaxLiability);
+    assertEquals(0, new BigDecimal("420").compareTo(tax.amount()));
+
+    IParticipation fund = registry.parseParticipation(mapper.readTree("""
+        {"type": " fund ", "entity": "Growth Fund", "percent": "0.25", "fundId": "F-1"}"""))
+        .orElseThrow();
+    assertTrue(fund instanceof FundParticipation);
+    assertEquals(new BigDecimal("0.25"), fund.percent());
+
+    assertTrue(registry.parseParticipation(mapper.readTree("""
+        {"type": "general", "entity": "Acme", "percent": 1.5}""")).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Looks parsers up by their exact type")
+  void testAssetParserLookup() {
+    for (String type : List.of("bank", "etf", "real-estate", "rental-property", "collectible")) {
+      assertEquals(type, registry.assetParser(new String(type)).orElseThrow().type());
+    }
+    assertTrue(registry.assetParser("").isEmpty());
+    assertTrue(registry.assetParser("banks").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Matches the trimmed type exactly, reading non-textual types as text")
+  void testTypeMatching() {
+    ITypedJsonParser<IAsset> numbered = new ITypedJsonParser<>() {
+      @Override
+      public Optional<IAsset> parse(JsonNode node) {
+        return Optional.of(new GeneralAsset("numbered", asset -> BigDecimal.ONE));
+      }
+
+      @Override
+      public String type() {
+        return "42";
+      }
+    };
+    FinancialParsersRegistry custom = new FinancialParsersRegistry.Builder()
+        .discover()
+        .registerAsset(numbered)
+        .build();
+
+    assertTrue(custom.parseAsset(mapper.readTree("{\"type\": 42}")).isPresent());
+    assertTrue(custom.parseAsset(mapper.readTree("""
+        {"type": " bank ", "name": "Account", "iban": "IBAN", "value": 1}""")).isPresent());
+    assertTrue(custom.parseAsset(mapper.readTree("""
+        {"type": "BANK", "name": "Account", "iban": "IBAN", "value": 1}""")).isEmpty());
+    assertTrue(custom.parseAsset(mapper.readTree("{\"type\": null}")).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Lets a registry be assembled with additional parsers")
+  void testBuilderRegistersCustomParser() {
+    ITypedJsonParser<IAsset> art = new ITypedJsonParser<>() {
+      @Override
+      public Optional<IAsset> parse(JsonNode node) {
+        return Optional.of(new GeneralAsset("art", asset -> BigDecimal.TEN));
+      }
+
+      @Override
+      public String type() {
+        return "art";
+      }
+    };
+    FinancialParsersRegistry custom = new FinancialParsersRegistry.Builder()
+        .discover()
+        .registerAsset(art)
+        .build();
+
+    assertEquals(BigDecimal.TEN, custom.parseAsset(mapper.readTree("{\"type\": \"art\"}"))
+        .orElseThrow().value());
+    assertTrue(registry.parseAsset(mapper.readTree("{\"type\": \"art\"}")).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Maps bound asset records like trees, and reads other entries as trees")
+  void testBoundAssets() {
+    PersonDto dto = mapper.readValue("""
+        {"firstname": "Alice", "lastname": "Brown", "assets": [
+          {"name": "Primary", "type": "bank", "iban": "IBAN1", "value": 1500.00,
+           "jointAccount": true, "tags": [" liquid", ""]},
+          {"type": "crypto", "name": "Wallet", "symbol": "BTC", "quantity": "2",
+           "valuation": {"kind": "multiplicative", "unitPrice": 100.5}},
+          {"type": " general ", "name": "Spaced", "value": 7},
+          {"type": "art", "name": "Unknown"},
+          {"type": "bank", "name": "No iban"}]}""", PersonDto.class);
+
+    assertTrue(dto.assets().get(0) instanceof BankAssetDto);
+    assertTrue(dto.assets().get(2) instanceof AssetNodeDto);
+
+    List<IAsset> assets = new PersonParser(registry).parse(dto).orElseThrow().getAssets();
+    assertEquals(3, assets.size());
+    assertTrue(assets.get(0) instanceof BankAccountAsset);
+    assertEquals(new BigDecimal("1500.00"), assets.get(0).value());
+    assertEquals(List.of("liquid"), assets.get(0).tags());
+    assertEquals(0, new BigDecimal("201").compareTo(assets.get(1).value()));
+    assertEquals(0, BigDecimal.valueOf(7).compareTo(assets.get(2).value()));
+  }
+
+  @Test
+  @DisplayName("Hands a bound built-in record to a parser registered over its type")
+  void testBoundAssetOverride() {
+    ITypedJsonParser<IAsset> bank = new ITypedJsonParser<>() {
+      @Override
+      public Optional<IAsset> parse(JsonNode node) {
+        return Optional.of(new GeneralAsset(node.get("name").asString(), asset -> BigDecimal.ONE));
+      }
+
+      @Override
+      public String type() {
+        return "bank";
+      }
+    };
+    FinancialParsersRegistry custom = new FinancialParsersRegistry.Builder()
+        .discover()
+        .registerAsset(bank)
+        .build();
+    BankAssetDto dto = mapper.readValue("""
+        {"type": "bank", "name": "Primary", "iban": "IBAN1", "value": "1500.00"}""",
+        BankAssetDto.class);
+
+    IAsset asset = custom.parseAsset(dto).orElseThrow();
+    assertEquals("Primary", asset.name());
+    assertEquals(BigDecimal.ONE, asset.value());
+    assertEquals(new BigDecimal("1500.00"), registry.parseAsset(dto).orElseThrow().value());
+  }
+}
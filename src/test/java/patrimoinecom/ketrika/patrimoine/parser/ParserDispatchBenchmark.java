@@ -0,0 +1,81 @@
+package patrimoinecom.ketrika.patrimoine.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.ketrika.patrimoine.models.assets.IAsset;
+import com.ketrika.patrimoine.parser.FinancialParsersRegistry;
+import com.ketrika.patrimoine.parser.ITypedJsonParser;
+
+/**
+ * Compares the registry's precomputed dispatch table with the {@link HashMap} lookup it replaced,
+ * per asset type looked up.
+ * <p>
+ * Each lookup is given a fresh copy of the type, as parsed from a document, so that its hash is
+ * not cached. Run {@link #main(String[])} after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserDispatchBenchmark {
+
+  private static final String[] TYPES = {"savings", "etf", "real-estate", "vehicle",
+      "rental-property", "land", "life-insurance", "crypto", "precious-metal", "royalty",
+      "franchise", "bank", "general", "trust", "collectible"};
+
+  private final FinancialParsersRegistry registry = FinancialParsersRegistry.shared();
+  private final Map<String, ITypedJsonParser<IAsset>> baseline = new HashMap<>();
+  private char[][] types;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    types = new char[TYPES.length][];
+    for (int i = 0; i < TYPES.length; i++) {
+      baseline.put(TYPES[i], registry.assetParser(TYPES[i]).orElseThrow());
+      types[i] = TYPES[i].toCharArray();
+    }
+  }
+
+  @Benchmark
+  public String copyOnly() {
+    return nextType();
+  }
+
+  @Benchmark
+  public ITypedJsonParser<IAsset> hashMap() {
+    return baseline.get(nextType());
+  }
+
+  @Benchmark
+  public ITypedJsonParser<IAsset> dispatchTable() {
+    return registry.assetParser(nextType()).orElse(null);
+  }
+
+  private String nextType() {
+    next = next + 1 == types.length ? 0 : next + 1;
+    return new String(types[next]);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(ParserDispatchBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
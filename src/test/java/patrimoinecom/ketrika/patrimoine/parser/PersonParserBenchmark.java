@@ -0,0 +1,103 @@
+package patrimoinecom.ketrika.patrimoine.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.ketrika.patrimoine.models.generals.Person;
+import com.ketrika.patrimoine.parser.PersonParser;
+import com.ketrika.patrimoine.parser.dto.PersonDto;
+import com.ketrika.patrimoine.utils.UtilsJson;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Compares the JsonNode tree walk with the DTO binding fast path, per Person record.
+ * <p>
+ * Each record holds {@link #assets} entries cycling over bank, crypto and real estate assets, which
+ * the DTO path binds into their own records. The {@code bind*} benchmarks only read the record; the
+ * {@code parse*} ones also map it to a Person. Run {@link #main(String[])} after {@code mvn test-compile}: the GC profiler reports the
+ * bytes allocated per record as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonParserBenchmark {
+
+  private static final String[] ASSETS = {
+      """
+      {"type": "bank", "name": "Account %d", "iban": "IBAN%d", "value": "1500.00",
+       "currency": "EUR", "tags": ["liquid"]}""",
+      """
+      {"type": "crypto", "name": "Wallet %d", "symbol": "BTC%d", "quantity": "0.5",
+       "valuation": {"kind": "multiplicative", "unitPrice": 65000}}""",
+      """
+      {"type": "real-estate", "name": "Flat %d", "address": "%d Main St",
+       "buildingAreaSqM": 54.5, "yearBuilt": 1998, "value": 180000}"""};
+
+  @Param({"1", "20"})
+  public int assets;
+
+  private final PersonParser parser = new PersonParser();
+  private byte[] record;
+
+  @Setup
+  public void setUp() {
+    var json = new StringBuilder("""
+        {"firstname": "Alice", "lastname": "Brown", "gender": "F",
+         "contact": {"email": "alice@example.com", "phone": "111-222", "secondaryPhone": "333-444"},
+         "address": {"street": "1 Main St", "city": "Townsville", "state": "TS",
+                     "zipCode": "00001", "country": "CountryA"},
+         "birth": {"date": "1990-01-01", "place": {"street": "Hospital Rd", "city": "CityX",
+                   "state": "StateX", "zipCode": "99999", "country": "CountryA"}},
+         "assets": [""");
+    for (int i = 0; i < assets; i++) {
+      json.append(i == 0 ? "" : ",").append(ASSETS[i % ASSETS.length].formatted(i, i));
+    }
+    json.append("], \"liabilities\": [], \"participations\": []}");
+    record = json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public JsonNode bindTree() {
+    return UtilsJson.recordMapper().readTree(record);
+  }
+
+  @Benchmark
+  public PersonDto bindDto() {
+    return UtilsJson.recordMapper().readValue(record, PersonDto.class);
+  }
+
+  @Benchmark
+  public Optional<Person> parseTree() {
+    return parser.parse(UtilsJson.recordMapper().readTree(record));
+  }
+
+  @Benchmark
+  public Optional<Person> parseDto() {
+    return parser.parse(UtilsJson.recordMapper().readValue(record, PersonDto.class));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(PersonParserBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
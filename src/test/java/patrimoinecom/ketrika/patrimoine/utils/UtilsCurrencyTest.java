@@ -1,11 +1,13 @@
 package patrimoinecom.ketrika.patrimoine.utils;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.math.BigDecimal;
 import java.util.Currency;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -116,6 +118,48 @@ class UtilsCurrencyTest {
         () -> UtilsCurrency.convert(new BigDecimal("50"), MGA, EUR, map));
   }
 
+  // ------------------------------------------------------------
+  // convertAll(amounts, ...)
+  // ------------------------------------------------------------
+
+  @Test
+  @DisplayName("Converts a batch like one amount at a time, in parallel when large")
+  void testConvertAllMatchesSingleConversions() {
+    BigDecimal rate = new BigDecimal("0.0002137");
+    BigDecimal[] amounts = new BigDecimal[UtilsCurrency.PARALLEL_THRESHOLD + 123];
+    for (int i = 0; i < amounts.length; i++) {
+      amounts[i] = BigDecimal.valueOf(i * 7919L, 1);
+    }
+    BigDecimal[] results = new BigDecimal[amounts.length];
+
+    UtilsCurrency.convertAll(amounts, MGA, EUR, rate, results);
+
+    for (int i = 0; i < amounts.length; i++) {
+      assertEquals(UtilsCurrency.convert(amounts[i], MGA, EUR, rate), results[i]);
+    }
+    assertEquals(List.of(new BigDecimal("85.00")),
+        UtilsCurrency.convertAll(List.of(new BigDecimal("100")), MGA, EUR, new BigDecimal("0.85")));
+  }
+
+  @Test
+  @DisplayName("Converts amounts in mixed currencies with a rate map")
+  void testConvertAllMixedCurrencies() {
+    Map<String, BigDecimal> map = new HashMap<>();
+    map.put(UtilsCurrency.key(MGA, EUR), new BigDecimal("0.0002"));
+    map.put(UtilsCurrency.key(GBP, EUR), new BigDecimal("1.15"));
+    BigDecimal[] amounts = {new BigDecimal("10000"), new BigDecimal("10"), new BigDecimal("3.5")};
+    BigDecimal[] results = new BigDecimal[3];
+
+    UtilsCurrency.convertAll(amounts, new Currency[] {MGA, GBP, EUR}, EUR, map, results);
+
+    assertArrayEquals(new BigDecimal[] {new BigDecimal("2.00"), new BigDecimal("11.50"),
+        new BigDecimal("3.5")}, results);
+    assertThrows(IllegalArgumentException.class, () -> UtilsCurrency.convertAll(amounts,
+        new Currency[] {MGA, MGA, MGA}, GBP, map, results));
+    assertThrows(IllegalArgumentException.class,
+        () -> UtilsCurrency.convertAll(amounts, MGA, EUR, BigDecimal.ONE, new BigDecimal[2]));
+  }
+
   // ------------------------------------------------------------
   // key(Currency, Currency)
   // ------------------------------------------------------------